@@ -0,0 +1,120 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Closed-loop load generator for POST /api/orders
+ * Each of N clients sends one order at a time for the given duration after a warm-up,
+ * then prints one CSV line: mode,clients,requests,errors,throughput_rps,p50_ms,p99_ms,max_ms
+ *
+ * Usage: java OrderBenchmark.java <baseUrl> <token> <orderJson> <mode> <clients> <warmupSeconds> <seconds>
+ * Run with the JDK's single-file launcher; it needs nothing outside the JDK.
+ */
+public class OrderBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 7) {
+            System.err.println("Usage: java OrderBenchmark.java <baseUrl> <token> <orderJson> <mode> <clients> <warmupSeconds> <seconds>");
+            System.exit(2);
+        }
+        String baseUrl = args[0];
+        String token = args[1];
+        String orderJson = args[2];
+        String mode = args[3];
+        int clients = Integer.parseInt(args[4]);
+        long warmupNanos = Duration.ofSeconds(Long.parseLong(args[5])).toNanos();
+        long measureNanos = Duration.ofSeconds(Long.parseLong(args[6])).toNanos();
+
+        // The client threads only block in send(); HttpClient keeps its own executor for I/O
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/orders"))
+                .timeout(Duration.ofSeconds(60))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(orderJson))
+                .build();
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmupNanos;
+        long measureUntil = measureFrom + measureNanos;
+
+        List<Future<Result>> futures = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            futures.add(pool.submit(() -> runClient(client, request, measureFrom, measureUntil)));
+        }
+
+        long[] latencies = new long[0];
+        long errors = 0;
+        for (Future<Result> future : futures) {
+            Result result = future.get();
+            int offset = latencies.length;
+            latencies = Arrays.copyOf(latencies, offset + result.count);
+            System.arraycopy(result.latencies, 0, latencies, offset, result.count);
+            errors += result.errors;
+        }
+        pool.shutdownNow();
+
+        Arrays.sort(latencies);
+        double seconds = measureNanos / 1e9;
+        System.out.printf("%s,%d,%d,%d,%.1f,%.1f,%.1f,%.1f%n",
+                mode, clients, latencies.length, errors, latencies.length / seconds,
+                percentile(latencies, 0.50), percentile(latencies, 0.99),
+                latencies.length == 0 ? 0.0 : latencies[latencies.length - 1] / 1e6);
+    }
+
+    private static Result runClient(HttpClient client, HttpRequest request, long measureFrom, long measureUntil) {
+        Result result = new Result();
+        long now;
+        while ((now = System.nanoTime()) < measureUntil) {
+            boolean ok;
+            try {
+                ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+            } catch (Exception e) {
+                ok = false;
+            }
+            long end = System.nanoTime();
+            // Only requests that both start and finish inside the window are counted
+            if (now >= measureFrom && end <= measureUntil) {
+                if (ok) {
+                    result.add(end - now);
+                } else {
+                    result.errors++;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private static class Result {
+        long[] latencies = new long[1024];
+        int count;
+        long errors;
+
+        void add(long nanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+    }
+}
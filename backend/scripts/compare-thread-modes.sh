@@ -0,0 +1,116 @@
+#!/bin/bash
+# Compare POST /api/orders throughput and latency between platform and virtual threads.
+#
+# Starts the packaged backend once per mode, places COD orders from 10, 100 and 1000
+# concurrent clients, and writes one CSV row per run to target/bench/thread-modes.csv.
+# Virtual mode is recorded with JFR and -Djdk.tracePinnedThreads so pinning inside the
+# JDBC driver, Hikari or our own code shows up in target/bench/virtual-pinning.txt.
+#
+# Requirements: JDK 21+ (virtual threads), curl, python3, a built jar (mvn package).
+# Orders are only accepted inside the ordering window (11:00-19:00, before a slot's cutoff);
+# set BENCH_TIMEZONE (e.g. Etc/GMT+10) to shift the backend's clock into it.
+#
+# Environment:
+#   DB_PROFILE      extra Spring profile for the database, e.g. supabase (default: H2)
+#   CLIENTS         concurrency levels (default: "10 100 1000")
+#   WARMUP_SECONDS  per run (default: 15)
+#   SECONDS_PER_RUN measured seconds per run (default: 60)
+#   MODES           modes to run (default: "platform virtual")
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+CLIENTS=${CLIENTS:-"10 100 1000"}
+WARMUP_SECONDS=${WARMUP_SECONDS:-15}
+SECONDS_PER_RUN=${SECONDS_PER_RUN:-60}
+MODES=${MODES:-"platform virtual"}
+PORT=${PORT:-8080}
+BASE_URL="http://localhost:${PORT}"
+JAR=target/srmiggy-backend-1.0.0.jar
+OUT=target/bench
+
+JAVA_FEATURE=$(java -XshowSettings:properties -version 2>&1 | awk -F'= ' '/java.specification.version/ {print $2}')
+if [[ " $MODES " == *" virtual "* ]] && (( JAVA_FEATURE < 21 )); then
+    echo "Virtual threads need Java 21+, found ${JAVA_FEATURE}. Use a newer JDK or MODES=platform." >&2
+    exit 1
+fi
+if [[ ! -f "$JAR" ]]; then
+    echo "Missing $JAR; run mvn package first." >&2
+    exit 1
+fi
+
+mkdir -p "$OUT"
+CSV="$OUT/thread-modes.csv"
+echo "mode,clients,requests,errors,throughput_rps,p50_ms,p99_ms,max_ms" > "$CSV"
+
+APP_PID=""
+stop_app() {
+    if [[ -n "$APP_PID" ]]; then
+        kill "$APP_PID" 2>/dev/null || true
+        wait "$APP_PID" 2>/dev/null || true
+        APP_PID=""
+    fi
+}
+trap stop_app EXIT
+
+json() {
+    python3 -c "import json,sys; d=json.load(sys.stdin); print($1)"
+}
+
+for MODE in $MODES; do
+    PROFILES=${DB_PROFILE:-}
+    JVM_OPTS=()
+    if [[ "$MODE" == "virtual" ]]; then
+        PROFILES=${PROFILES:+$PROFILES,}virtual
+        JVM_OPTS+=("-Djdk.tracePinnedThreads=short"
+                   "-XX:StartFlightRecording=filename=$OUT/virtual.jfr,settings=profile")
+    fi
+    if [[ -n "${BENCH_TIMEZONE:-}" ]]; then
+        JVM_OPTS+=("-Duser.timezone=$BENCH_TIMEZONE")
+    fi
+
+    echo "Starting backend in $MODE mode${PROFILES:+ (profiles: $PROFILES)}"
+    java "${JVM_OPTS[@]}" -jar "$JAR" \
+        --server.port="$PORT" \
+        --spring.jpa.show-sql=false \
+        ${PROFILES:+--spring.profiles.active=$PROFILES} \
+        > "$OUT/$MODE.log" 2>&1 &
+    APP_PID=$!
+    for _ in $(seq 1 120); do
+        curl -s -o /dev/null "$BASE_URL/api/vendors" && break
+        sleep 1
+    done
+
+    TOKEN=$(curl -s -XPOST "$BASE_URL/api/auth/login" -H 'Content-Type: application/json' \
+        -d '{"username":"customer","password":"password"}' | json 'd["token"]')
+    VENDOR=$(curl -s "$BASE_URL/api/vendors" | json 'd[0]["id"]')
+    ITEM=$(curl -s "$BASE_URL/api/menu/vendor/$VENDOR" | json 'd[0]["id"]')
+    SLOT=$(curl -s "$BASE_URL/api/slots" | json 'd["slots"][-1]["id"] if d["slots"] else ""')
+    if [[ -z "$SLOT" ]]; then
+        echo "No delivery slot is open for ordering right now; see BENCH_TIMEZONE above." >&2
+        exit 1
+    fi
+    ORDER="{\"vendorId\":\"$VENDOR\",\"slotId\":\"$SLOT\",\"deliveryAddress\":\"Benchmark\",\"customerPhone\":\"0000000000\",\"paymentMethod\":\"cod\",\"items\":[{\"menuItemId\":\"$ITEM\",\"quantity\":1}]}"
+
+    for N in $CLIENTS; do
+        echo "  $N clients"
+        java scripts/OrderBenchmark.java "$BASE_URL" "$TOKEN" "$ORDER" "$MODE" "$N" \
+            "$WARMUP_SECONDS" "$SECONDS_PER_RUN" | tee -a "$CSV"
+    done
+
+    stop_app
+done
+
+if [[ " $MODES " == *" virtual "* ]]; then
+    {
+        echo "# Stack traces from -Djdk.tracePinnedThreads (one per pinning site)"
+        grep -A6 "reason:\|<== monitors" "$OUT/virtual.log" | sort | uniq -c | sort -rn || true
+        echo
+        echo "# jdk.VirtualThreadPinned events (JFR, pinned longer than 20ms)"
+        jfr print --events jdk.VirtualThreadPinned "$OUT/virtual.jfr" | grep -E "duration|line:" | head -200 || true
+    } > "$OUT/virtual-pinning.txt"
+    echo "Pinning report: $OUT/virtual-pinning.txt"
+fi
+
+echo "Results: $CSV"
+cat "$CSV"
@@ -0,0 +1,76 @@
+package com.srmiggy.benchmark;
+
+import com.srmiggy.dto.AvailableRider;
+import com.srmiggy.dto.DispatchCandidate;
+import com.srmiggy.service.DispatchService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One dispatch tick's matching: a lunch slot's READY orders across vendors and hostels,
+ * matched to the free riders in memory
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DispatchPlanBenchmark {
+
+    private static final int VENDORS = 8;
+    private static final int HOSTELS = 12;
+    private static final int SLOTS = 2;
+
+    @Param({"100", "500", "2000"})
+    public int readyOrders;
+
+    private DispatchService dispatchService;
+    private List<DispatchCandidate> waiting;
+    private List<AvailableRider> riders;
+    private LocalDateTime now;
+
+    @Setup
+    public void setUp() {
+        List<UUID> vendors = new ArrayList<>();
+        for (int i = 0; i < VENDORS; i++) {
+            vendors.add(UUID.randomUUID());
+        }
+        List<UUID> slots = new ArrayList<>();
+        for (int i = 0; i < SLOTS; i++) {
+            slots.add(UUID.randomUUID());
+        }
+
+        now = LocalDateTime.now();
+        waiting = new ArrayList<>(readyOrders);
+        for (int i = 0; i < readyOrders; i++) {
+            int slot = i * SLOTS / readyOrders;
+            waiting.add(new DispatchCandidate(UUID.randomUUID(), vendors.get(i % VENDORS), slots.get(slot),
+                    LocalTime.of(12 + slot, 0), "Hostel " + (char) ('A' + i % HOSTELS) + ", Room " + (100 + i),
+                    now.minusSeconds(readyOrders - i)));
+        }
+
+        // Enough riders for about half the orders at four per rider, a quarter of them shared
+        riders = new ArrayList<>();
+        for (int i = 0; i < readyOrders / 8; i++) {
+            riders.add(new AvailableRider(UUID.randomUUID(), i % 4 == 0 ? null : vendors.get(i % VENDORS)));
+        }
+
+        dispatchService = new DispatchService();
+        ReflectionTestUtils.setField(dispatchService, "maxOrdersPerRider", 4);
+        ReflectionTestUtils.setField(dispatchService, "maxWaitSeconds", 60L);
+    }
+
+    @Benchmark
+    public Map<UUID, List<UUID>> plan() {
+        return dispatchService.plan(waiting, riders, now);
+    }
+}
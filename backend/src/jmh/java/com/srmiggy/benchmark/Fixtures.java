@@ -0,0 +1,124 @@
+package com.srmiggy.benchmark;
+
+import com.srmiggy.model.*;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * In-memory entities and repository stubs shared by the benchmarks
+ */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static User customer() {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setUsername("customer");
+        user.setEmail("customer@srmiggy.com");
+        user.setPassword("$2a$10$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchmark");
+        user.setFullName("John Doe");
+        user.setPhone("9876543210");
+        user.setAddress("Hostel A, Room 101");
+        user.setRole(UserRole.CUSTOMER);
+        user.setCreatedAt(LocalDateTime.now());
+        return user;
+    }
+
+    static Vendor vendor() {
+        Vendor vendor = new Vendor();
+        vendor.setId(UUID.randomUUID());
+        vendor.setName("Benchmark Biryani House");
+        vendor.setDescription("Biryani, kebabs and rolls");
+        vendor.setRating(4.4);
+        vendor.setCreatedAt(LocalDateTime.now());
+        return vendor;
+    }
+
+    static List<MenuItem> menuItems(Vendor vendor, int count) {
+        List<MenuItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            MenuItem item = new MenuItem();
+            item.setId(UUID.randomUUID());
+            item.setVendor(vendor);
+            item.setName("Menu item " + i);
+            item.setDescription("Description of menu item " + i);
+            item.setPrice(80.0 + i * 15);
+            item.setCategory(i % 2 == 0 ? "Mains" : "Sides");
+            item.setCreatedAt(LocalDateTime.now());
+            items.add(item);
+        }
+        return items;
+    }
+
+    /**
+     * The default timetable: hourly slots from 11:00 to 19:00
+     */
+    static List<DeliverySlot> hourlySlots() {
+        List<DeliverySlot> slots = new ArrayList<>();
+        for (int hour = 11; hour < 19; hour++) {
+            DeliverySlot slot = new DeliverySlot();
+            slot.setId(UUID.randomUUID());
+            slot.setStartTime(LocalTime.of(hour, 0));
+            slot.setEndTime(LocalTime.of(hour + 1, 0));
+            slot.setDisplayName(hour + ":00 - " + (hour + 1) + ":00");
+            slots.add(slot);
+        }
+        return slots;
+    }
+
+    static Order order(int lines) {
+        Vendor vendor = vendor();
+        List<MenuItem> menu = menuItems(vendor, lines);
+
+        Order order = new Order();
+        order.setId(UUID.randomUUID());
+        order.setCustomer(customer());
+        order.setVendor(vendor);
+        order.setDeliverySlot(hourlySlots().get(1));
+        order.setDeliveryAddress("Hostel A, Room 101");
+        order.setCustomerPhone("9876543210");
+        order.setStatus(OrderStatus.CONFIRMED);
+        order.setCreatedAt(LocalDateTime.now());
+        order.setUpdatedAt(LocalDateTime.now());
+
+        double subtotal = 0.0;
+        for (MenuItem menuItem : menu) {
+            OrderItem item = new OrderItem();
+            item.setId(UUID.randomUUID());
+            item.setOrder(order);
+            item.setMenuItem(menuItem);
+            item.setQuantity(2);
+            item.setPrice(menuItem.getPrice());
+            item.setSubtotal(menuItem.getPrice() * 2);
+            item.setCreatedAt(LocalDateTime.now());
+            order.getItems().add(item);
+            subtotal += item.getSubtotal();
+        }
+        order.setSubtotal(subtotal);
+        order.setTotal(subtotal + order.getPlatformFee());
+        return order;
+    }
+
+    /**
+     * Repository stub answering the named methods; any other call fails loudly
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T repository(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer == null) {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            }
+            return answer.apply(args);
+        });
+    }
+}
@@ -0,0 +1,60 @@
+package com.srmiggy.benchmark;
+
+import com.srmiggy.model.User;
+import com.srmiggy.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and verification, with and without the verified-token cache
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    static final String SECRET = "srmiggy2024secretkeyforsigningjwttokenspleasechangeinproduction";
+
+    private JwtUtil cachingJwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachingJwtUtil = jwtUtil(10000);
+        uncachedJwtUtil = jwtUtil(0);
+        user = Fixtures.customer();
+        token = cachingJwtUtil.generateToken(user);
+    }
+
+    static JwtUtil jwtUtil(int verifiedCacheSize) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 86400000L);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheSize", verifiedCacheSize);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cachingJwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public Claims parseTokenCached() {
+        return cachingJwtUtil.parseToken(token);
+    }
+
+    @Benchmark
+    public Claims parseTokenUncached() {
+        return uncachedJwtUtil.parseToken(token);
+    }
+}
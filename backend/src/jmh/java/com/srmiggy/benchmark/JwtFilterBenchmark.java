@@ -0,0 +1,62 @@
+package com.srmiggy.benchmark;
+
+import com.srmiggy.model.User;
+import com.srmiggy.security.JwtAuthenticationFilter;
+import com.srmiggy.security.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One authenticated request through JwtAuthenticationFilter, with the user lookup stubbed
+ * so only token handling and security-context setup are measured
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    @Param({"10000", "0"})
+    public int verifiedCacheSize;
+
+    private JwtAuthenticationFilter filter;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = JwtBenchmark.jwtUtil(verifiedCacheSize);
+        User user = Fixtures.customer();
+        UserDetails details = new org.springframework.security.core.userdetails.User(
+                user.getUsername(), user.getPassword(), List.of(new SimpleGrantedAuthority("ROLE_CUSTOMER")));
+        UserDetailsService userDetailsService = username -> details;
+
+        filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(filter, "userDetailsService", userDetailsService);
+        authorizationHeader = "Bearer " + jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public Object authenticate() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders");
+        request.addHeader("Authorization", authorizationHeader);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
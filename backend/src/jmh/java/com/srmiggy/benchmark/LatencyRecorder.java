@@ -0,0 +1,72 @@
+package com.srmiggy.benchmark;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Latencies and errors for one endpoint, counted only inside the measurement window
+ * A call is counted when it both starts and finishes inside the window.
+ */
+final class LatencyRecorder {
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private long errors;
+
+    private volatile long windowStart = Long.MAX_VALUE;
+    private volatile long windowEnd = Long.MAX_VALUE;
+
+    void setWindow(long startNanos, long endNanos) {
+        windowStart = startNanos;
+        windowEnd = endNanos;
+    }
+
+    void record(long startNanos, long endNanos, boolean ok) {
+        if (startNanos < windowStart || endNanos > windowEnd) {
+            return;
+        }
+        synchronized (this) {
+            if (!ok) {
+                errors++;
+                return;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = endNanos - startNanos;
+        }
+    }
+
+    /**
+     * Summary in milliseconds; throughput is per second of the measurement window
+     */
+    synchronized Map<String, Object> summary(double windowSeconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        long total = count + errors;
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", total);
+        summary.put("errors", errors);
+        summary.put("errorRate", total == 0 ? 0.0 : round((double) errors / total));
+        summary.put("throughputRps", round(count / windowSeconds));
+        summary.put("p50Ms", percentile(sorted, 0.50));
+        summary.put("p95Ms", percentile(sorted, 0.95));
+        summary.put("p99Ms", percentile(sorted, 0.99));
+        summary.put("maxMs", sorted.length == 0 ? 0.0 : round(sorted[sorted.length - 1] / 1e6));
+        return summary;
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return round(sorted[Math.max(0, index)] / 1e6);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,97 @@
+package com.srmiggy.benchmark;
+
+import com.srmiggy.model.MenuItem;
+import com.srmiggy.model.User;
+import com.srmiggy.model.UserRole;
+import com.srmiggy.model.Vendor;
+import com.srmiggy.repository.MenuItemRepository;
+import com.srmiggy.repository.UserRepository;
+import com.srmiggy.repository.VendorRepository;
+import com.srmiggy.security.JwtUtil;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Seeds the simulation's vendors, menu items and customers through the application's
+ * own repositories, and mints a token per customer
+ */
+final class LunchRushSeeder {
+
+    static final double WALLET_BALANCE = 1_000_000.0;
+
+    /**
+     * Seeded data the simulated customers choose from
+     */
+    record Seed(Map<UUID, List<MenuItem>> menus, List<String> tokens) {
+    }
+
+    private LunchRushSeeder() {
+    }
+
+    static Seed seed(ApplicationContext context, int vendors, int menuItems, int users) {
+        VendorRepository vendorRepository = context.getBean(VendorRepository.class);
+        MenuItemRepository menuItemRepository = context.getBean(MenuItemRepository.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        JwtUtil jwtUtil = context.getBean(JwtUtil.class);
+
+        List<Vendor> vendorRows = new ArrayList<>(vendors);
+        for (int v = 0; v < vendors; v++) {
+            Vendor vendor = new Vendor();
+            vendor.setName("Lunch Rush Vendor " + v);
+            vendor.setDescription("Seeded for the lunch-rush simulation");
+            vendor.setImageUrl("https://example.com/vendor-" + v + ".jpg");
+            vendor.setRating(3.5 + (v % 15) / 10.0);
+            vendorRows.add(vendor);
+        }
+        vendorRows = vendorRepository.saveAll(vendorRows);
+
+        // Menu items are spread round-robin, so every vendor gets at least one when menuItems >= vendors
+        List<MenuItem> itemRows = new ArrayList<>(menuItems);
+        for (int i = 0; i < menuItems; i++) {
+            MenuItem item = new MenuItem();
+            item.setVendor(vendorRows.get(i % vendors));
+            item.setName("Dish " + i);
+            item.setDescription("Seeded dish " + i);
+            item.setPrice(60.0 + (i % 12) * 20);
+            item.setCategory(i % 3 == 0 ? "Mains" : i % 3 == 1 ? "Sides" : "Beverages");
+            item.setIsVeg(i % 2 == 0);
+            itemRows.add(item);
+        }
+        itemRows = menuItemRepository.saveAll(itemRows);
+
+        Map<UUID, List<MenuItem>> menus = new LinkedHashMap<>();
+        for (MenuItem item : itemRows) {
+            menus.computeIfAbsent(item.getVendor().getId(), id -> new ArrayList<>()).add(item);
+        }
+
+        // One hash for everyone: BCrypt per user would dominate the seeding time
+        String password = context.getBean(PasswordEncoder.class).encode("password");
+        List<User> userRows = new ArrayList<>(users);
+        for (int u = 0; u < users; u++) {
+            User user = new User();
+            user.setUsername("lunchrush" + u);
+            user.setEmail("lunchrush" + u + "@srmiggy.com");
+            user.setPassword(password);
+            user.setFullName("Lunch Rush Customer " + u);
+            user.setPhone(String.format("9%09d", u));
+            user.setAddress("Hostel " + (char) ('A' + u % 6) + ", Room " + (100 + u % 300));
+            user.setRole(UserRole.CUSTOMER);
+            user.setWalletBalance(WALLET_BALANCE);
+            userRows.add(user);
+        }
+        userRows = userRepository.saveAll(userRows);
+
+        // Tokens are minted directly: logging in K users would mostly measure BCrypt
+        List<String> tokens = new ArrayList<>(users);
+        for (User user : userRows) {
+            tokens.add(jwtUtil.generateToken(user));
+        }
+        return new Seed(menus, tokens);
+    }
+}
@@ -0,0 +1,399 @@
+package com.srmiggy.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.srmiggy.SrmiggyApplication;
+import com.srmiggy.model.MenuItem;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lunch-rush load simulation against an in-process backend on H2
+ *
+ * Boots the application on a random port, seeds vendors, menu items and customers, then
+ * runs closed-loop customer sessions: browse vendors and a menu, poll slots, place an order
+ * paid by wallet, COD or mock card, and poll its status. Reports throughput, latency
+ * percentiles and error rates per endpoint, plus Hikari connection wait times, on stdout
+ * and as JSON (default target/lunch-rush.json).
+ *
+ * The JVM clock is shifted so the run happens at --clock (default 12:10) local time,
+ * inside the ordering window whatever the wall-clock time is.
+ *
+ * Options (name=value, optionally prefixed with --): vendors, items, users, clients, warmup, duration (seconds),
+ * think-ms, polls, payment-mix (e.g. wallet:40,cod:30,card:30), pool-size, clock, out.
+ * Arguments starting with --spring. or --server. are passed to the application.
+ */
+public class LunchRushSimulation {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final Map<String, String> options;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final Map<String, LatencyRecorder> endpoints = new ConcurrentHashMap<>();
+    private final AtomicLong sessions = new AtomicLong();
+    private final AtomicLong ordersPlaced = new AtomicLong();
+
+    private String baseUrl;
+    private LunchRushSeeder.Seed seed;
+    private List<UUID> vendorIds;
+    private List<String> paymentMix;
+    private volatile long measureFrom = Long.MAX_VALUE;
+    private volatile long measureUntil = Long.MAX_VALUE;
+
+    LunchRushSimulation(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        List<String> appArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--spring.") || arg.startsWith("--server.")) {
+                appArgs.add(arg);
+            } else if (arg.contains("=")) {
+                String name = arg.startsWith("--") ? arg.substring(2, arg.indexOf('=')) : arg.substring(0, arg.indexOf('='));
+                options.put(name, arg.substring(arg.indexOf('=') + 1));
+            } else {
+                System.err.println("Unrecognised argument: " + arg);
+                System.exit(2);
+            }
+        }
+        new LunchRushSimulation(options).run(appArgs);
+        System.exit(0);
+    }
+
+    void run(List<String> appArgs) throws Exception {
+        int vendors = intOption("vendors", 20);
+        int items = intOption("items", 600);
+        int users = intOption("users", 500);
+        int clients = intOption("clients", 50);
+        int warmupSeconds = intOption("warmup", 15);
+        int durationSeconds = intOption("duration", 60);
+        paymentMix = parsePaymentMix(options.getOrDefault("payment-mix", "wallet:40,cod:30,card:30"));
+
+        LocalTime clock = LocalTime.parse(options.getOrDefault("clock", "12:10"));
+        // ZoneId.ofOffset gives a "GMT+hh:mm" id, which TimeZone understands
+        TimeZone.setDefault(TimeZone.getTimeZone(ZoneId.ofOffset("GMT", zoneShowing(clock))));
+
+        PoolWaitTracker poolTracker = new PoolWaitTracker();
+        ConfigurableApplicationContext context = boot(appArgs, poolTracker);
+        try {
+            baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            long seedStart = System.nanoTime();
+            seed = LunchRushSeeder.seed(context, vendors, items, users);
+            vendorIds = new ArrayList<>(seed.menus().keySet());
+            System.out.printf("Seeded %d vendors, %d menu items and %d customers in %.1fs%n",
+                    vendors, items, users, (System.nanoTime() - seedStart) / 1e9);
+
+            long start = System.nanoTime();
+            measureFrom = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+            measureUntil = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+            poolTracker.setWindow(measureFrom, measureUntil);
+
+            ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+            sampler.scheduleAtFixedRate(poolTracker::sample, 100, 100, TimeUnit.MILLISECONDS);
+
+            System.out.printf("Running %d clients: %ds warm-up, %ds measured%n", clients, warmupSeconds, durationSeconds);
+            ExecutorService pool = Executors.newFixedThreadPool(clients);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                futures.add(pool.submit(this::runClient));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            pool.shutdownNow();
+            sampler.shutdownNow();
+
+            report(clients, durationSeconds, poolTracker);
+        } finally {
+            context.close();
+        }
+    }
+
+    private ConfigurableApplicationContext boot(List<String> appArgs, PoolWaitTracker poolTracker) {
+        // Passed as command-line arguments so they override application.properties
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url", "jdbc:h2:mem:lunchrush;DB_CLOSE_DELAY=-1");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("logging.level.root", "WARN");
+        if (options.containsKey("pool-size")) {
+            properties.put("spring.datasource.hikari.maximum-pool-size", options.get("pool-size"));
+        }
+        for (String arg : appArgs) {
+            int equals = arg.indexOf('=');
+            properties.put(arg.substring(2, equals < 0 ? arg.length() : equals), equals < 0 ? "" : arg.substring(equals + 1));
+        }
+        List<String> args = new ArrayList<>();
+        properties.forEach((name, value) -> args.add("--" + name + "=" + value));
+
+        return new SpringApplicationBuilder(SrmiggyApplication.class)
+                .initializers(context -> context.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+                    @Override
+                    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                        // The pool has not started yet, so the tracker sees every acquisition
+                        if (bean instanceof HikariDataSource dataSource) {
+                            dataSource.setMetricsTrackerFactory(poolTracker);
+                        }
+                        return bean;
+                    }
+                }))
+                .run(args.toArray(String[]::new));
+    }
+
+    /**
+     * One simulated customer at a time, back to back, until the measurement window closes
+     */
+    private void runClient() {
+        long thinkMillis = intOption("think-ms", 250);
+        int polls = intOption("polls", 3);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while (System.nanoTime() < measureUntil) {
+            String token = seed.tokens().get(random.nextInt(seed.tokens().size()));
+            UUID vendorId = vendorIds.get(random.nextInt(vendorIds.size()));
+            try {
+                session(token, vendorId, polls, thinkMillis, random);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (inWindow(System.nanoTime())) {
+                sessions.incrementAndGet();
+            }
+        }
+    }
+
+    private void session(String token, UUID vendorId, int polls, long thinkMillis, ThreadLocalRandom random)
+            throws InterruptedException {
+        if (call("GET /api/vendors", get("/api/vendors", null)) == null) {
+            return;
+        }
+        think(thinkMillis);
+        if (call("GET /api/menu/vendor/{id}", get("/api/menu/vendor/" + vendorId, null)) == null) {
+            return;
+        }
+        think(thinkMillis);
+        JsonNode slots = call("GET /api/slots", get("/api/slots", null));
+        if (slots == null) {
+            return;
+        }
+        JsonNode open = slots.path("slots");
+        if (open.isEmpty()) {
+            endpoint("no open slot").record(System.nanoTime(), System.nanoTime(), false);
+            return;
+        }
+        String slotId = open.get(random.nextInt(open.size())).path("id").asText();
+        think(thinkMillis);
+
+        String paymentMethod = paymentMix.get(random.nextInt(paymentMix.size()));
+        JsonNode order = call("POST /api/orders", post("/api/orders", token, orderBody(vendorId, slotId, paymentMethod, random)));
+        if (order == null) {
+            return;
+        }
+        String orderId = order.path("id").asText();
+
+        if (paymentMethod.equals("cod")) {
+            if (call("POST /api/payments/confirm-cod", post("/api/payments/confirm-cod?orderId=" + orderId, token, "")) == null) {
+                return;
+            }
+        } else if (paymentMethod.equals("card")) {
+            JsonNode payment = call("POST /api/payments/create-order", post("/api/payments/create-order?orderId=" + orderId, token, ""));
+            if (payment == null) {
+                return;
+            }
+            String verify = json(Map.of(
+                    "providerOrderId", payment.path("providerOrderId").asText(),
+                    "providerPaymentId", "MOCK_PAY_" + UUID.randomUUID(),
+                    "providerSignature", "MOCK_SIG_" + UUID.randomUUID()));
+            if (call("POST /api/payments/verify", post("/api/payments/verify", token, verify)) == null) {
+                return;
+            }
+        }
+        if (inWindow(System.nanoTime())) {
+            ordersPlaced.incrementAndGet();
+        }
+
+        for (int i = 0; i < polls; i++) {
+            think(thinkMillis);
+            if (call("GET /api/orders/{id}", get("/api/orders/" + orderId, token)) == null) {
+                return;
+            }
+        }
+    }
+
+    private String orderBody(UUID vendorId, String slotId, String paymentMethod, ThreadLocalRandom random) {
+        List<MenuItem> menu = seed.menus().get(vendorId);
+        List<Map<String, Object>> cart = new ArrayList<>();
+        int lines = Math.min(menu.size(), 1 + random.nextInt(3));
+        int first = random.nextInt(menu.size());
+        for (int i = 0; i < lines; i++) {
+            cart.add(Map.of("menuItemId", menu.get((first + i) % menu.size()).getId(), "quantity", 1 + random.nextInt(2)));
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("vendorId", vendorId);
+        body.put("slotId", slotId);
+        body.put("deliveryAddress", "Hostel A, Room 101");
+        body.put("customerPhone", "9876543210");
+        body.put("paymentMethod", paymentMethod);
+        body.put("items", cart);
+        return json(body);
+    }
+
+    /**
+     * Send a request and record it under the endpoint name; returns the parsed body,
+     * or null when the call failed
+     */
+    private JsonNode call(String endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        JsonNode body = null;
+        boolean ok;
+        try {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            ok = response.statusCode() == 200;
+            if (ok) {
+                body = response.body().length == 0 ? JSON.createObjectNode() : JSON.readTree(response.body());
+            }
+        } catch (Exception e) {
+            ok = false;
+        }
+        endpoint(endpoint).record(start, System.nanoTime(), ok);
+        return body;
+    }
+
+    private boolean inWindow(long nanos) {
+        return nanos >= measureFrom && nanos <= measureUntil;
+    }
+
+    private LatencyRecorder endpoint(String name) {
+        return endpoints.computeIfAbsent(name, n -> {
+            LatencyRecorder recorder = new LatencyRecorder();
+            recorder.setWindow(measureFrom, measureUntil);
+            return recorder;
+        });
+    }
+
+    private HttpRequest get(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(60)).GET();
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private HttpRequest post(String path, String token, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(60))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private void report(int clients, int durationSeconds, PoolWaitTracker poolTracker) throws Exception {
+        Map<String, Object> endpointSummaries = new LinkedHashMap<>();
+        endpoints.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> endpointSummaries.put(entry.getKey(), entry.getValue().summary(durationSeconds)));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("options", options);
+        report.put("clients", clients);
+        report.put("measuredSeconds", durationSeconds);
+        report.put("sessionsCompleted", sessions.get());
+        report.put("ordersPlaced", ordersPlaced.get());
+        report.put("endpoints", endpointSummaries);
+        report.put("hikari", poolTracker.summary(durationSeconds));
+
+        System.out.printf("%n%-36s %9s %7s %8s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "rps", "p50_ms", "p95_ms", "p99_ms", "max_ms");
+        endpointSummaries.forEach((name, value) -> {
+            Map<?, ?> s = (Map<?, ?>) value;
+            System.out.printf("%-36s %9s %7s %8s %9s %9s %9s %9s%n", name, s.get("requests"), s.get("errors"),
+                    s.get("throughputRps"), s.get("p50Ms"), s.get("p95Ms"), s.get("p99Ms"), s.get("maxMs"));
+        });
+        System.out.printf("%nMeasured window: %d orders placed, %d sessions completed%n", ordersPlaced.get(), sessions.get());
+        System.out.println("Hikari: " + report.get("hikari"));
+
+        File out = new File(options.getOrDefault("out", "target/lunch-rush.json"));
+        JSON.writerWithDefaultPrettyPrinter().writeValue(out, report);
+        System.out.println("Report: " + out);
+    }
+
+    private static void think(long millis) throws InterruptedException {
+        if (millis > 0) {
+            // +/- 50% so the clients do not march in lockstep
+            Thread.sleep(millis / 2 + ThreadLocalRandom.current().nextLong(millis + 1));
+        }
+    }
+
+    /**
+     * Fixed-offset zone in which the wall clock currently reads the given time, to the minute
+     * (TimeZone ids cannot carry seconds)
+     */
+    static ZoneOffset zoneShowing(LocalTime target) {
+        int utcNow = LocalTime.now(ZoneOffset.UTC).toSecondOfDay() / 60;
+        int offset = Math.floorMod(target.toSecondOfDay() / 60 - utcNow, 24 * 60);
+        if (offset > 12 * 60) {
+            offset -= 24 * 60;
+        }
+        return ZoneOffset.ofTotalSeconds(offset * 60);
+    }
+
+    private static List<String> parsePaymentMix(String mix) {
+        List<String> weighted = new ArrayList<>();
+        for (String part : mix.split(",")) {
+            String[] methodAndWeight = part.trim().split(":");
+            for (int i = 0; i < Integer.parseInt(methodAndWeight[1]); i++) {
+                weighted.add(methodAndWeight[0]);
+            }
+        }
+        return weighted;
+    }
+
+    private int intOption(String name, int defaultValue) {
+        return Integer.parseInt(options.getOrDefault(name, String.valueOf(defaultValue)));
+    }
+
+    private static String json(Object value) {
+        try {
+            return JSON.writeValueAsString(value);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
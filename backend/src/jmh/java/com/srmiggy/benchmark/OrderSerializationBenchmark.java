@@ -0,0 +1,48 @@
+package com.srmiggy.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.srmiggy.dto.OrderResponse;
+import com.srmiggy.model.Order;
+import com.srmiggy.service.OrderService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of an order: the full entity graph the order endpoints used to
+ * return, against the OrderResponse they return now
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderSerializationBenchmark {
+
+    @Param({"1", "5", "20"})
+    public int orderLines;
+
+    private ObjectMapper objectMapper;
+    private Order order;
+    private OrderResponse response;
+
+    @Setup
+    public void setUp() {
+        // Same defaults as the mapper Spring Boot configures for the controllers
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        order = Fixtures.order(orderLines);
+        response = new OrderService().toResponse(order);
+    }
+
+    @Benchmark
+    public byte[] serializeOrder() throws Exception {
+        return objectMapper.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public byte[] serializeOrderResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,84 @@
+package com.srmiggy.benchmark;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hikari metrics tracker recording how long request threads wait for a connection,
+ * plus the peak number of threads queued on the pool while sampling
+ */
+final class PoolWaitTracker implements MetricsTrackerFactory {
+
+    private final LatencyRecorder acquireWaits = new LatencyRecorder();
+    private final AtomicLong timeouts = new AtomicLong();
+    private volatile PoolStats poolStats;
+    private volatile long windowStart = Long.MAX_VALUE;
+    private volatile long windowEnd = Long.MAX_VALUE;
+
+    private long samples;
+    private long pendingSum;
+    private int maxPending;
+    private int maxActive;
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        this.poolStats = poolStats;
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                long now = System.nanoTime();
+                acquireWaits.record(now - elapsedAcquiredNanos, now, true);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                long now = System.nanoTime();
+                if (now >= windowStart && now <= windowEnd) {
+                    timeouts.incrementAndGet();
+                }
+            }
+        };
+    }
+
+    void setWindow(long startNanos, long endNanos) {
+        windowStart = startNanos;
+        windowEnd = endNanos;
+        acquireWaits.setWindow(startNanos, endNanos);
+    }
+
+    /**
+     * Called periodically by the simulation; PoolStats refreshes itself at most once a second
+     */
+    synchronized void sample() {
+        long now = System.nanoTime();
+        PoolStats stats = poolStats;
+        if (stats == null || now < windowStart || now > windowEnd) {
+            return;
+        }
+        samples++;
+        pendingSum += stats.getPendingThreads();
+        maxPending = Math.max(maxPending, stats.getPendingThreads());
+        maxActive = Math.max(maxActive, stats.getActiveConnections());
+    }
+
+    synchronized Map<String, Object> summary(double windowSeconds) {
+        Map<String, Object> acquire = acquireWaits.summary(windowSeconds);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("poolSize", poolStats != null ? poolStats.getMaxConnections() : 0);
+        summary.put("acquisitions", acquire.get("requests"));
+        summary.put("acquireP50Ms", acquire.get("p50Ms"));
+        summary.put("acquireP95Ms", acquire.get("p95Ms"));
+        summary.put("acquireP99Ms", acquire.get("p99Ms"));
+        summary.put("acquireMaxMs", acquire.get("maxMs"));
+        summary.put("timeouts", timeouts.get());
+        summary.put("maxActive", maxActive);
+        summary.put("maxPendingThreads", maxPending);
+        summary.put("meanPendingThreads", samples == 0 ? 0.0 : Math.round(pendingSum * 100.0 / samples) / 100.0);
+        return summary;
+    }
+}
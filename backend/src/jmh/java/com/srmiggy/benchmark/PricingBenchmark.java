@@ -0,0 +1,56 @@
+package com.srmiggy.benchmark;
+
+import com.srmiggy.dto.CartItemRequest;
+import com.srmiggy.model.MenuItem;
+import com.srmiggy.model.Vendor;
+import com.srmiggy.repository.MenuItemRepository;
+import com.srmiggy.service.PricedCart;
+import com.srmiggy.service.PricingService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checkout pricing: validating and pricing a cart against already-loaded menu items
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PricingBenchmark {
+
+    @Param({"1", "5", "20"})
+    public int cartLines;
+
+    private PricingService pricingService;
+    private UUID vendorId;
+    private List<CartItemRequest> cart;
+
+    @Setup
+    public void setUp() {
+        Vendor vendor = Fixtures.vendor();
+        List<MenuItem> menu = Fixtures.menuItems(vendor, cartLines);
+        vendorId = vendor.getId();
+
+        cart = new ArrayList<>();
+        for (MenuItem item : menu) {
+            cart.add(new CartItemRequest(item.getId(), 2));
+        }
+
+        pricingService = new PricingService();
+        ReflectionTestUtils.setField(pricingService, "menuItemRepository",
+                Fixtures.repository(MenuItemRepository.class, Map.of("findByIdIn", args -> menu)));
+    }
+
+    @Benchmark
+    public PricedCart priceCart() {
+        return pricingService.priceCart(vendorId, cart);
+    }
+}
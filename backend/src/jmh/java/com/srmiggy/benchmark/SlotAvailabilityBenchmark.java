@@ -0,0 +1,53 @@
+package com.srmiggy.benchmark;
+
+import com.srmiggy.model.DeliverySlot;
+import com.srmiggy.repository.DeliverySlotRepository;
+import com.srmiggy.service.DeliverySlotService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Slot availability lookups against the in-memory timetable
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SlotAvailabilityBenchmark {
+
+    private static final LocalTime NOON = LocalTime.of(12, 0);
+
+    private DeliverySlotService deliverySlotService;
+
+    @Setup
+    public void setUp() {
+        List<DeliverySlot> slots = Fixtures.hourlySlots();
+        deliverySlotService = new DeliverySlotService();
+        ReflectionTestUtils.setField(deliverySlotService, "deliverySlotRepository",
+                Fixtures.repository(DeliverySlotRepository.class, Map.of("findByActiveTrue", args -> slots)));
+        deliverySlotService.rebuildTimetable();
+    }
+
+    /**
+     * What GET /api/slots does; the answer depends on the wall clock
+     */
+    @Benchmark
+    public List<DeliverySlot> getAvailableSlots() {
+        return deliverySlotService.getAvailableSlots();
+    }
+
+    /**
+     * Same lookup at a fixed time inside the ordering window, so runs are comparable
+     */
+    @Benchmark
+    public List<DeliverySlot> openSlotsAtNoon() {
+        return deliverySlotService.getTimetable().getOpenSlots(NOON);
+    }
+}
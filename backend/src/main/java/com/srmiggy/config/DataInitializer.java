@@ -47,6 +47,7 @@ public class DataInitializer implements CommandLineRunner {
 
         // Create settings
         createSetting("MINIMUM_ORDER_VALUE", "100", "Minimum order value in rupees");
+        createSetting("DELIVERY_FEE", "10", "Delivery fee in rupees for orders below the minimum order value");
         createSetting("PLATFORM_FEE", "2", "Platform fee in rupees");
         createSetting("ORDER_CUTOFF_MINUTES", "50", "Minutes before slot closing when orders stop");
 
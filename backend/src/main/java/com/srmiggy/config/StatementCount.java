@@ -0,0 +1,79 @@
+package com.srmiggy.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Statements executed on one thread while this count was open, grouped by SQL text.
+ * Hibernate binds parameters, so the same query for different ids has the same text;
+ * one text repeated many times within a request is the signature of an N+1.
+ */
+public class StatementCount implements AutoCloseable {
+
+    private final StatementCounter counter;
+    private final int limit;
+    private final Map<String, Integer> bySql = new LinkedHashMap<>();
+    private int statements;
+
+    StatementCount(StatementCounter counter, int limit) {
+        this.counter = counter;
+        this.limit = limit;
+    }
+
+    void add(String sql) {
+        statements++;
+        bySql.merge(sql, 1, Integer::sum);
+        if (statements > limit) {
+            throw new IllegalStateException("SQL statement budget of " + limit + " exceeded by: " + sql);
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    /**
+     * Statement texts in first-run order, with how often each ran
+     */
+    public Map<String, Integer> getStatementsBySql() {
+        return bySql;
+    }
+
+    /**
+     * The most repeated statement text and its run count, or null if nothing ran
+     */
+    public Map.Entry<String, Integer> getMostRepeated() {
+        return bySql.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .orElse(null);
+    }
+
+    /**
+     * For tests: fail unless exactly the expected number of statements ran
+     */
+    public void assertStatements(int expected) {
+        if (statements != expected) {
+            throw new AssertionError("Expected " + expected + " SQL statements but " + statements + " ran:" + describe());
+        }
+    }
+
+    /**
+     * For tests: fail if more than max statements ran
+     */
+    public void assertAtMost(int max) {
+        if (statements > max) {
+            throw new AssertionError("Expected at most " + max + " SQL statements but " + statements + " ran:" + describe());
+        }
+    }
+
+    private String describe() {
+        StringBuilder description = new StringBuilder();
+        bySql.forEach((sql, times) -> description.append("\n  ").append(times).append("x ").append(sql));
+        return description.toString();
+    }
+
+    @Override
+    public void close() {
+        counter.close(this);
+    }
+}
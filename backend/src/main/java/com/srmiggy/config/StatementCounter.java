@@ -0,0 +1,68 @@
+package com.srmiggy.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread.
+ * Registered as Hibernate's statement inspector. Nothing is counted until a
+ * StatementCount is opened; counts nest, so a test can open one around a request
+ * while StatementMetricsFilter keeps its own per-request count inside it.
+ *
+ * <pre>
+ * try (StatementCount count = statementCounter.open()) {
+ *     mockMvc.perform(get("/api/orders"));
+ *     count.assertStatements(2);
+ * }
+ * </pre>
+ */
+@Component
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Deque<StatementCount>> ACTIVE = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Deque<StatementCount> active = ACTIVE.get();
+        if (active != null) {
+            for (StatementCount count : active) {
+                count.add(sql);
+            }
+        }
+        return sql;
+    }
+
+    /**
+     * Start counting statements on this thread until the returned count is closed
+     */
+    public StatementCount open() {
+        return open(Integer.MAX_VALUE);
+    }
+
+    /**
+     * As open(), but the statement that goes over the limit fails with an IllegalStateException
+     */
+    public StatementCount open(int limit) {
+        Deque<StatementCount> active = ACTIVE.get();
+        if (active == null) {
+            active = new ArrayDeque<>();
+            ACTIVE.set(active);
+        }
+        StatementCount count = new StatementCount(this, limit);
+        active.push(count);
+        return count;
+    }
+
+    void close(StatementCount count) {
+        Deque<StatementCount> active = ACTIVE.get();
+        if (active != null) {
+            active.remove(count);
+            if (active.isEmpty()) {
+                ACTIVE.remove();
+            }
+        }
+    }
+}
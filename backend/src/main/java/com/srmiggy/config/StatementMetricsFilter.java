@@ -0,0 +1,96 @@
+package com.srmiggy.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements each request runs and holds it to a budget.
+ * Every request is recorded in the srmiggy.http.statements distribution summary. A
+ * request over the budget, or one that repeats the same statement n-plus-one-threshold
+ * times, is logged and counted in srmiggy.http.statements.flagged. With enforce set the
+ * statement that goes over the budget fails instead, which is meant for dev and CI.
+ * Runs ahead of the security filters so statements issued during authentication count too.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class StatementMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementMetricsFilter.class);
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${sql.statement-budget.per-request:20}")
+    private int budget;
+
+    @Value("${sql.statement-budget.n-plus-one-threshold:5}")
+    private int nPlusOneThreshold;
+
+    @Value("${sql.statement-budget.enforce:false}")
+    private boolean enforce;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        StatementCount count = enforce ? statementCounter.open(budget) : statementCounter.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            count.close();
+            // The route template, so /api/orders/{id} is one series rather than one per order
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            DistributionSummary.builder("srmiggy.http.statements")
+                    .description("SQL statements executed per HTTP request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(count.getStatements());
+            checkBudget(request.getMethod(), uri, count);
+        }
+    }
+
+    private void checkBudget(String method, String uri, StatementCount count) {
+        if (count.getStatements() > budget) {
+            log.warn("{} {} ran {} SQL statements, over the budget of {}", method, uri, count.getStatements(), budget);
+            flag(method, uri, "budget");
+        }
+        Map.Entry<String, Integer> repeated = count.getMostRepeated();
+        if (repeated != null && repeated.getValue() >= nPlusOneThreshold) {
+            log.warn("Possible N+1 in {} {}: the same statement ran {} times: {}",
+                    method, uri, repeated.getValue(), repeated.getKey());
+            flag(method, uri, "repeated");
+        }
+    }
+
+    private void flag(String method, String uri, String reason) {
+        Counter.builder("srmiggy.http.statements.flagged")
+                .description("Requests over the SQL statement budget or repeating one statement")
+                .tag("method", method)
+                .tag("uri", uri)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+}
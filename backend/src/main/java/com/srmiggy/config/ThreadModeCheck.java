@@ -0,0 +1,35 @@
+package com.srmiggy.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports which thread mode requests, @Async work and scheduled jobs run in
+ * Spring Boot silently ignores spring.threads.virtual.enabled below Java 21, so a
+ * virtual-thread deployment on an older runtime is called out at startup.
+ */
+@Component
+public class ThreadModeCheck {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadModeCheck.class);
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report() {
+        int javaVersion = Runtime.version().feature();
+        if (!virtualThreadsEnabled) {
+            log.info("Thread mode: platform threads (Java {})", javaVersion);
+        } else if (javaVersion < 21) {
+            log.warn("spring.threads.virtual.enabled is set but Java {} has no virtual threads; "
+                    + "running on platform threads. Use Java 21 or later for the virtual profile.", javaVersion);
+        } else {
+            log.info("Thread mode: virtual threads (Java {})", javaVersion);
+        }
+    }
+}
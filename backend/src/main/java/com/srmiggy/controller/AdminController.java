@@ -1,19 +1,30 @@
 package com.srmiggy.controller;
 
-import com.srmiggy.model.Order;
+import com.srmiggy.dto.AdminOrderRow;
+import com.srmiggy.dto.CursorPage;
+import com.srmiggy.dto.SlotResponse;
+import com.srmiggy.dto.UserResponse;
+import com.srmiggy.dto.VendorResponse;
 import com.srmiggy.model.OrderStatus;
-import com.srmiggy.model.User;
-import com.srmiggy.model.Vendor;
-import com.srmiggy.repository.OrderRepository;
+import com.srmiggy.model.UserRole;
 import com.srmiggy.repository.UserRepository;
 import com.srmiggy.repository.VendorRepository;
+import com.srmiggy.security.CustomUserDetailsService;
+import com.srmiggy.service.AdminStatsService;
+import com.srmiggy.service.CheckoutSettings;
+import com.srmiggy.service.DeliverySlotService;
+import com.srmiggy.service.KeysetPaging;
 import com.srmiggy.service.OrderService;
+import com.srmiggy.service.SettingsService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -34,47 +45,111 @@ public class AdminController {
     private UserRepository userRepository;
 
     @Autowired
-    private OrderRepository orderRepository;
+    private DeliverySlotService deliverySlotService;
+
+    @Autowired
+    private AdminStatsService adminStatsService;
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private SettingsService settingsService;
 
     @GetMapping("/orders")
-    public ResponseEntity<List<Order>> getAllOrders() {
-        return ResponseEntity.ok(orderService.getAllOrders());
+    public ResponseEntity<CursorPage<AdminOrderRow>> getAllOrders(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) UUID vendorId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            return ResponseEntity.ok(orderService.getAllOrders(cursor, size, status, vendorId, from, to));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/vendors")
-    public ResponseEntity<List<Vendor>> getAllVendors() {
-        return ResponseEntity.ok(vendorRepository.findAll());
+    public ResponseEntity<CursorPage<VendorResponse>> getAllVendors(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        try {
+            int pageSize = KeysetPaging.pageSize(size);
+            Limit limit = Limit.of(pageSize + 1);
+            Map<String, Object> after = KeysetPaging.decode(cursor);
+            List<VendorResponse> rows = after == null
+                    ? vendorRepository.findResponses(limit)
+                    : vendorRepository.findResponsesAfter((LocalDateTime) after.get("createdAt"), (UUID) after.get("id"), limit);
+            return ResponseEntity.ok(KeysetPaging.toPage(rows, pageSize, VendorResponse::getCreatedAt, VendorResponse::getId));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/users")
-    public ResponseEntity<List<User>> getAllUsers() {
-        return ResponseEntity.ok(userRepository.findAll());
+    public ResponseEntity<CursorPage<UserResponse>> getAllUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) UserRole role) {
+        try {
+            int pageSize = KeysetPaging.pageSize(size);
+            Limit limit = Limit.of(pageSize + 1);
+            Map<String, Object> after = KeysetPaging.decode(cursor);
+            List<UserResponse> rows = after == null
+                    ? userRepository.findResponses(role, limit)
+                    : userRepository.findResponsesAfter(role, (LocalDateTime) after.get("createdAt"), (UUID) after.get("id"), limit);
+            return ResponseEntity.ok(KeysetPaging.toPage(rows, pageSize, UserResponse::getCreatedAt, UserResponse::getId));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/stats")
     public ResponseEntity<Map<String, Object>> getStats() {
-        Map<String, Object> stats = new HashMap<>();
-        stats.put("totalOrders", orderRepository.count());
-        stats.put("totalVendors", vendorRepository.count());
-        stats.put("totalUsers", userRepository.count());
-        
-        List<Order> orders = orderRepository.findAll();
-        double totalRevenue = orders.stream()
-                .filter(o -> o.getStatus() == OrderStatus.DELIVERED)
-                .mapToDouble(Order::getTotal)
-                .sum();
-        stats.put("totalRevenue", totalRevenue);
-        
-        return ResponseEntity.ok(stats);
+        return ResponseEntity.ok(adminStatsService.getStats());
+    }
+
+    @GetMapping("/stats/user-cache")
+    public ResponseEntity<Map<String, Long>> getUserCacheStats() {
+        return ResponseEntity.ok(customUserDetailsService.getCacheStats());
     }
 
     @PutMapping("/orders/{id}/status")
-    public ResponseEntity<Order> updateOrderStatus(@PathVariable UUID id, @RequestParam OrderStatus status) {
+    public ResponseEntity<AdminOrderRow> updateOrderStatus(@PathVariable UUID id, @RequestParam OrderStatus status) {
+        try {
+            orderService.updateOrderStatus(id, status);
+            return ResponseEntity.ok(orderService.getAdminRow(id));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PutMapping("/slots/{id}/capacity")
+    public ResponseEntity<SlotResponse> updateSlotCapacity(
+            @PathVariable UUID id,
+            @RequestParam(required = false) Integer capacity,
+            @RequestParam(required = false) Integer vendorCapacity) {
         try {
-            Order order = orderService.updateOrderStatus(id, status);
-            return ResponseEntity.ok(order);
+            return ResponseEntity.ok(deliverySlotService.updateCapacity(id, capacity, vendorCapacity));
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
     }
+
+    @GetMapping("/settings")
+    public ResponseEntity<CheckoutSettings> getSettings() {
+        return ResponseEntity.ok(settingsService.getCheckoutSettings());
+    }
+
+    @PutMapping("/settings/{key}")
+    public ResponseEntity<?> updateSetting(@PathVariable String key, @RequestParam String value) {
+        try {
+            settingsService.updateSetting(key, value);
+            return ResponseEntity.ok(settingsService.getCheckoutSettings());
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
 }
@@ -1,32 +1,46 @@
 package com.srmiggy.controller;
 
-import com.srmiggy.model.DeliverySlot;
 import com.srmiggy.service.DeliverySlotService;
+import com.srmiggy.service.SlotTimetable;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/slots")
 @CrossOrigin
 public class DeliverySlotController {
 
+    // An admin can edit the slots at any time, so a client re-checks at least this often
+    private static final long MAX_AGE_SECONDS = 60;
+
     @Autowired
     private DeliverySlotService deliverySlotService;
 
     @GetMapping
     public ResponseEntity<Map<String, Object>> getActiveSlots() {
-        List<DeliverySlot> availableSlots = deliverySlotService.getAvailableSlots();
-        boolean isOrderingOpen = deliverySlotService.isOrderingOpen();
-        
+        LocalDateTime now = LocalDateTime.now();
+        SlotTimetable timetable = deliverySlotService.getTimetable();
+
         Map<String, Object> response = new HashMap<>();
-        response.put("slots", availableSlots);
-        response.put("isOrderingOpen", isOrderingOpen);
-        
-        return ResponseEntity.ok(response);
+        response.put("slots", timetable.getOpenSlots(now.toLocalTime()).stream()
+                .map(deliverySlotService::toResponse)
+                .toList());
+        response.put("isOrderingOpen", timetable.isOrderingOpen(now.toLocalTime()));
+
+        // Valid until the next slot opens or the ordering window changes, within the cap;
+        // private so no shared cache keeps serving slots after an admin closes them
+        long untilChange = Math.max(0, Duration.between(now, timetable.getNextChange(now)).getSeconds());
+        long maxAge = Math.min(untilChange, MAX_AGE_SECONDS);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(maxAge, TimeUnit.SECONDS).cachePrivate())
+                .body(response);
     }
 }
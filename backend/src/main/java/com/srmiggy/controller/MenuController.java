@@ -1,14 +1,16 @@
 package com.srmiggy.controller;
 
-import com.srmiggy.model.MenuItem;
-import com.srmiggy.model.Vendor;
+import com.srmiggy.dto.MenuItemResponse;
 import com.srmiggy.repository.MenuItemRepository;
-import com.srmiggy.repository.VendorRepository;
+import com.srmiggy.service.MenuCacheService;
+import com.srmiggy.service.MenuCacheService.CachedMenu;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -20,18 +22,28 @@ public class MenuController {
     private MenuItemRepository menuItemRepository;
 
     @Autowired
-    private VendorRepository vendorRepository;
+    private MenuCacheService menuCacheService;
 
     @GetMapping("/vendor/{vendorId}")
-    public ResponseEntity<List<MenuItem>> getMenuByVendor(@PathVariable UUID vendorId) {
-        return vendorRepository.findById(vendorId)
-                .map(vendor -> ResponseEntity.ok(menuItemRepository.findByVendorAndAvailableTrue(vendor)))
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<byte[]> getMenuByVendor(@PathVariable UUID vendorId, WebRequest webRequest) {
+        CachedMenu menu = menuCacheService.getMenu(vendorId).orElse(null);
+        if (menu == null) {
+            return ResponseEntity.notFound().build();
+        }
+        // The 304 and its ETag are already written by checkNotModified
+        if (webRequest.checkNotModified(menu.getEtag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(menu.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(menu.getBody());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<MenuItem> getMenuItemById(@PathVariable UUID id) {
-        return menuItemRepository.findById(id)
+    public ResponseEntity<MenuItemResponse> getMenuItemById(@PathVariable UUID id) {
+        return menuItemRepository.findResponseById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -1,14 +1,20 @@
 package com.srmiggy.controller;
 
 import com.srmiggy.dto.CreateOrderRequest;
+import com.srmiggy.dto.CursorPage;
+import com.srmiggy.dto.OrderResponse;
+import com.srmiggy.dto.OrderSummary;
 import com.srmiggy.model.Order;
+import com.srmiggy.security.AuthenticatedUser;
+import com.srmiggy.service.OrderEventHub;
 import com.srmiggy.service.OrderService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -19,29 +25,51 @@ public class OrderController {
     @Autowired
     private OrderService orderService;
 
+    @Autowired
+    private OrderEventHub orderEventHub;
+
     @PostMapping
-    public ResponseEntity<?> createOrder(@RequestBody CreateOrderRequest request, Authentication authentication) {
+    public ResponseEntity<?> createOrder(@RequestBody CreateOrderRequest request, @AuthenticationPrincipal AuthenticatedUser user) {
         try {
-            Order order = orderService.createOrder(request, authentication.getName());
-            return ResponseEntity.ok(order);
+            Order order = orderService.createOrder(request, user.getId());
+            return ResponseEntity.ok(orderService.toResponse(order));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(java.util.Map.of("error", e.getMessage()));
         }
     }
 
     @GetMapping
-    public ResponseEntity<List<Order>> getMyOrders(Authentication authentication) {
-        List<Order> orders = orderService.getCustomerOrders(authentication.getName());
-        return ResponseEntity.ok(orders);
+    public ResponseEntity<CursorPage<OrderSummary>> getMyOrders(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        try {
+            return ResponseEntity.ok(orderService.getCustomerOrders(user.getId(), cursor, size));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Order> getOrderById(@PathVariable UUID id, Authentication authentication) {
+    public ResponseEntity<OrderResponse> getOrderById(@PathVariable UUID id, @AuthenticationPrincipal AuthenticatedUser user) {
         try {
-            Order order = orderService.getOrderById(id, authentication.getName());
+            OrderResponse order = orderService.getOrderById(id, user);
             return ResponseEntity.ok(order);
         } catch (Exception e) {
             return ResponseEntity.notFound().build();
         }
     }
+
+    /**
+     * Server-sent events for one order: a "status" event with the current status, then one
+     * per change; the stream ends after DELIVERED or CANCELLED
+     */
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamOrderEvents(@PathVariable UUID id, @AuthenticationPrincipal AuthenticatedUser user) {
+        try {
+            return ResponseEntity.ok(orderEventHub.subscribe(id, () -> orderService.getOrderStatus(id, user)));
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
 }
@@ -1,11 +1,13 @@
 package com.srmiggy.controller;
 
 import com.srmiggy.dto.PaymentOrderResponse;
+import com.srmiggy.dto.PaymentResponse;
 import com.srmiggy.dto.PaymentVerifyRequest;
-import com.srmiggy.model.PaymentTransaction;
+import com.srmiggy.security.AuthenticatedUser;
 import com.srmiggy.service.PaymentService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.UUID;
@@ -31,7 +33,7 @@ public class PaymentController {
     @PostMapping("/verify")
     public ResponseEntity<?> verifyPayment(@RequestBody PaymentVerifyRequest request) {
         try {
-            PaymentTransaction transaction = paymentService.verifyPayment(request);
+            PaymentResponse transaction = paymentService.verifyPayment(request);
             return ResponseEntity.ok(transaction);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(java.util.Map.of("error", e.getMessage()));
@@ -39,8 +41,8 @@ public class PaymentController {
     }
 
     @GetMapping("/order/{orderId}")
-    public ResponseEntity<PaymentTransaction> getPaymentByOrderId(@PathVariable UUID orderId) {
-        PaymentTransaction transaction = paymentService.getPaymentByOrderId(orderId);
+    public ResponseEntity<PaymentResponse> getPaymentByOrderId(@PathVariable UUID orderId) {
+        PaymentResponse transaction = paymentService.getPaymentByOrderId(orderId);
         if (transaction != null) {
             return ResponseEntity.ok(transaction);
         }
@@ -50,10 +52,9 @@ public class PaymentController {
     @PostMapping("/pay-with-wallet")
     public ResponseEntity<?> payWithWallet(
             @RequestParam UUID orderId,
-            org.springframework.security.core.Authentication authentication) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
         try {
-            String username = authentication.getName();
-            PaymentTransaction transaction = paymentService.payWithWallet(orderId, username);
+            PaymentResponse transaction = paymentService.payWithWallet(orderId, user.getId());
             return ResponseEntity.ok(transaction);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(java.util.Map.of("error", e.getMessage()));
@@ -63,10 +64,9 @@ public class PaymentController {
     @PostMapping("/confirm-cod")
     public ResponseEntity<?> confirmCOD(
             @RequestParam UUID orderId,
-            org.springframework.security.core.Authentication authentication) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
         try {
-            String username = authentication.getName();
-            PaymentTransaction transaction = paymentService.confirmCODPayment(orderId, username);
+            PaymentResponse transaction = paymentService.confirmCODPayment(orderId, user.getId());
             return ResponseEntity.ok(transaction);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(java.util.Map.of("error", e.getMessage()));
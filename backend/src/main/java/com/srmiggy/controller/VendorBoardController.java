@@ -0,0 +1,68 @@
+package com.srmiggy.controller;
+
+import com.srmiggy.dto.KitchenPrep;
+import com.srmiggy.dto.VendorBoard;
+import com.srmiggy.security.AuthenticatedUser;
+import com.srmiggy.service.VendorBoardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+/**
+ * Kitchen board for vendor tablets; vendor users see their own vendor, admins pass vendorId
+ */
+@RestController
+@RequestMapping("/api/vendor/board")
+@CrossOrigin
+@PreAuthorize("hasAnyRole('VENDOR', 'ADMIN')")
+public class VendorBoardController {
+
+    @Autowired
+    private VendorBoardService vendorBoardService;
+
+    @GetMapping
+    public ResponseEntity<VendorBoard> getBoard(@RequestParam(required = false) UUID vendorId,
+                                                @AuthenticationPrincipal AuthenticatedUser user) {
+        try {
+            return ResponseEntity.ok(vendorBoardService.getBoard(vendorBoardService.resolveVendorId(user, vendorId)));
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Dish totals per delivery slot, e.g. how many of each dish to cook for the 12:00 slot
+     */
+    @GetMapping("/prep")
+    public ResponseEntity<KitchenPrep> getPrep(@RequestParam(required = false) UUID vendorId,
+                                               @RequestParam(required = false) UUID slotId,
+                                               @AuthenticationPrincipal AuthenticatedUser user) {
+        try {
+            return ResponseEntity.ok(vendorBoardService.getPrep(vendorBoardService.resolveVendorId(user, vendorId), slotId));
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Server-sent events for the board: a "snapshot" event, then "added", "updated" and
+     * "removed" events as orders move; reconnecting with Last-Event-ID replays only the missed changes
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamBoard(@RequestParam(required = false) UUID vendorId,
+                                                  @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                                  @AuthenticationPrincipal AuthenticatedUser user) {
+        try {
+            UUID id = vendorBoardService.resolveVendorId(user, vendorId);
+            return ResponseEntity.ok(vendorBoardService.subscribe(id, lastEventId));
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
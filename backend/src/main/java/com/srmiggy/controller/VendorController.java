@@ -1,6 +1,6 @@
 package com.srmiggy.controller;
 
-import com.srmiggy.model.Vendor;
+import com.srmiggy.dto.VendorResponse;
 import com.srmiggy.repository.VendorRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -18,13 +18,13 @@ public class VendorController {
     private VendorRepository vendorRepository;
 
     @GetMapping
-    public ResponseEntity<List<Vendor>> getAllVendors() {
-        return ResponseEntity.ok(vendorRepository.findByActiveTrue());
+    public ResponseEntity<List<VendorResponse>> getAllVendors() {
+        return ResponseEntity.ok(vendorRepository.findActiveResponses());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Vendor> getVendorById(@PathVariable UUID id) {
-        return vendorRepository.findById(id)
+    public ResponseEntity<VendorResponse> getVendorById(@PathVariable UUID id) {
+        return vendorRepository.findResponseById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -1,17 +1,21 @@
 package com.srmiggy.controller;
 
 import com.srmiggy.dto.AddMoneyRequest;
+import com.srmiggy.dto.CursorPage;
 import com.srmiggy.dto.LoyaltyPointsResponse;
+import com.srmiggy.dto.WalletEntry;
 import com.srmiggy.dto.WalletResponse;
-import com.srmiggy.model.WalletTransaction;
+import com.srmiggy.dto.WalletStatement;
+import com.srmiggy.security.AuthenticatedUser;
 import com.srmiggy.service.LoyaltyService;
 import com.srmiggy.service.WalletService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.time.LocalDate;
 
 @RestController
 @RequestMapping("/api/wallet")
@@ -27,10 +31,9 @@ public class WalletController {
     @PostMapping("/add-money")
     public ResponseEntity<WalletResponse> addMoney(
             @RequestBody AddMoneyRequest request,
-            Authentication authentication) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
         try {
-            String username = authentication.getName();
-            WalletResponse response = walletService.addMoney(username, request.getAmount());
+            WalletResponse response = walletService.addMoney(user.getId(), request.getAmount());
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -39,10 +42,9 @@ public class WalletController {
     }
 
     @GetMapping("/balance")
-    public ResponseEntity<Double> getBalance(Authentication authentication) {
+    public ResponseEntity<Double> getBalance(@AuthenticationPrincipal AuthenticatedUser user) {
         try {
-            String username = authentication.getName();
-            Double balance = walletService.getBalance(username);
+            Double balance = walletService.getBalance(user.getId());
             return ResponseEntity.ok(balance);
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
@@ -50,21 +52,35 @@ public class WalletController {
     }
 
     @GetMapping("/transactions")
-    public ResponseEntity<List<WalletTransaction>> getTransactions(Authentication authentication) {
+    public ResponseEntity<CursorPage<WalletEntry>> getTransactions(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal AuthenticatedUser user) {
         try {
-            String username = authentication.getName();
-            List<WalletTransaction> transactions = walletService.getTransactions(username);
-            return ResponseEntity.ok(transactions);
+            return ResponseEntity.ok(walletService.getTransactions(user.getId(), cursor, size));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/statement")
+    public ResponseEntity<WalletStatement> getStatement(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        try {
+            // Whole days, both ends inclusive
+            return ResponseEntity.ok(walletService.getStatement(user.getId(),
+                    from.atStartOfDay(), to.plusDays(1).atStartOfDay()));
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
     }
 
     @GetMapping("/loyalty-points")
-    public ResponseEntity<Double> getLoyaltyPoints(Authentication authentication) {
+    public ResponseEntity<Double> getLoyaltyPoints(@AuthenticationPrincipal AuthenticatedUser user) {
         try {
-            String username = authentication.getName();
-            Double points = loyaltyService.getLoyaltyPoints(username);
+            Double points = loyaltyService.getLoyaltyPoints(user.getId());
             return ResponseEntity.ok(points);
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
@@ -74,10 +90,9 @@ public class WalletController {
     @GetMapping("/calculate-loyalty-points")
     public ResponseEntity<LoyaltyPointsResponse> calculateLoyaltyPoints(
             @RequestParam Double orderTotal,
-            Authentication authentication) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
         try {
-            String username = authentication.getName();
-            Double currentPoints = loyaltyService.getLoyaltyPoints(username);
+            Double currentPoints = loyaltyService.getLoyaltyPoints(user.getId());
             Double pointsEarned = loyaltyService.calculatePointsEarned(orderTotal);
             return ResponseEntity.ok(new LoyaltyPointsResponse(currentPoints, pointsEarned));
         } catch (Exception e) {
@@ -0,0 +1,26 @@
+package com.srmiggy.dto;
+
+import com.srmiggy.model.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One row of the admin order table
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminOrderRow {
+    private UUID id;
+    private String customerName;
+    private String customerPhone;
+    private String vendorName;
+    private String slotDisplayName;
+    private Double total;
+    private OrderStatus status;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,18 @@
+package com.srmiggy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * A rider free to take orders; vendorId is null for riders shared by all vendors
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailableRider {
+    private UUID riderId;
+    private UUID vendorId;
+}
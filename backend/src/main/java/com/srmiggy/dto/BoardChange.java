@@ -0,0 +1,31 @@
+package com.srmiggy.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.srmiggy.model.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One change to a vendor's board: an order added, its status updated, or removed
+ * order is only set when added; the other types carry just the order id and status.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BoardChange {
+    public static final String ADDED = "added";
+    public static final String UPDATED = "updated";
+    public static final String REMOVED = "removed";
+
+    private String type;
+    private String version;
+    private UUID orderId;
+    private OrderStatus status;
+    private LocalDateTime updatedAt;
+    private BoardOrder order;
+}
@@ -0,0 +1,28 @@
+package com.srmiggy.dto;
+
+import com.srmiggy.model.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * An order on a vendor's board: what to cook, for whom and for which slot
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardOrder {
+    private UUID orderId;
+    private UUID slotId;
+    private String slotDisplayName;
+    private OrderStatus status;
+    private String customerName;
+    private String customerPhone;
+    private List<OrderLine> items;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,23 @@
+package com.srmiggy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One delivery slot's orders on a vendor's board, oldest first
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardSlot {
+    private UUID slotId;
+    private String displayName;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private List<BoardOrder> orders;
+}
@@ -0,0 +1,24 @@
+package com.srmiggy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * A READY order waiting for a rider; readyAt is when its status last changed
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DispatchCandidate {
+    private UUID orderId;
+    private UUID vendorId;
+    private UUID slotId;
+    private LocalTime slotStartTime;
+    private String deliveryAddress;
+    private LocalDateTime readyAt;
+}
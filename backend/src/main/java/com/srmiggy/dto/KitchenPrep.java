@@ -0,0 +1,22 @@
+package com.srmiggy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Today's dish totals for a vendor's kitchen, per delivery slot
+ * Counts CONFIRMED and PREPARING orders as to cook, READY orders as ready.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class KitchenPrep {
+    private UUID vendorId;
+    private LocalDate date;
+    private List<PrepSlot> slots;
+}
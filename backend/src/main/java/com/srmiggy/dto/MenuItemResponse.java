@@ -0,0 +1,25 @@
+package com.srmiggy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * A menu item with its vendor referenced by id only
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuItemResponse {
+    private UUID id;
+    private UUID vendorId;
+    private String name;
+    private String description;
+    private Double price;
+    private String imageUrl;
+    private Boolean available;
+    private String category;
+    private Boolean isVeg;
+}
@@ -0,0 +1,21 @@
+package com.srmiggy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * One line of an order, priced as at checkout
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderLine {
+    private UUID menuItemId;
+    private String name;
+    private Integer quantity;
+    private Double price;
+    private Double subtotal;
+}
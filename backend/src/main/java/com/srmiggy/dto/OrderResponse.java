@@ -0,0 +1,69 @@
+package com.srmiggy.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.srmiggy.model.OrderStatus;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Order detail: the order's own columns, vendor and slot names, and its lines
+ * The constructor matches the JPQL projection; lines are filled by a second query.
+ */
+@Data
+@NoArgsConstructor
+public class OrderResponse {
+    private UUID id;
+
+    // Only for the access check, never sent
+    @JsonIgnore
+    private UUID customerId;
+    @JsonIgnore
+    private UUID vendorOwnerId;
+
+    private UUID vendorId;
+    private String vendorName;
+    private UUID slotId;
+    private String slotDisplayName;
+    private OrderStatus status;
+    private String deliveryAddress;
+    private String customerPhone;
+    private Double subtotal;
+    private Double deliveryFee;
+    private Double platformFee;
+    private Double loyaltyPointsUsed;
+    private Double loyaltyPointsEarned;
+    private Double total;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private List<OrderLine> items = new ArrayList<>();
+
+    public OrderResponse(UUID id, UUID customerId, UUID vendorOwnerId, UUID vendorId, String vendorName,
+                         UUID slotId, String slotDisplayName, OrderStatus status, String deliveryAddress,
+                         String customerPhone, Double subtotal, Double deliveryFee, Double platformFee,
+                         Double loyaltyPointsUsed, Double loyaltyPointsEarned, Double total,
+                         LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.customerId = customerId;
+        this.vendorOwnerId = vendorOwnerId;
+        this.vendorId = vendorId;
+        this.vendorName = vendorName;
+        this.slotId = slotId;
+        this.slotDisplayName = slotDisplayName;
+        this.status = status;
+        this.deliveryAddress = deliveryAddress;
+        this.customerPhone = customerPhone;
+        this.subtotal = subtotal;
+        this.deliveryFee = deliveryFee;
+        this.platformFee = platformFee;
+        this.loyaltyPointsUsed = loyaltyPointsUsed;
+        this.loyaltyPointsEarned = loyaltyPointsEarned;
+        this.total = total;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,21 @@
+package com.srmiggy.dto;
+
+import com.srmiggy.model.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Payload of a status event on an order's event stream
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatusUpdate {
+    private UUID orderId;
+    private OrderStatus status;
+    private LocalDateTime updatedAt;
+}
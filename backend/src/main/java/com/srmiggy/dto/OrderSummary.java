@@ -0,0 +1,20 @@
+package com.srmiggy.dto;
+
+import com.srmiggy.model.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSummary {
+    private UUID id;
+    private String vendorName;
+    private Double total;
+    private OrderStatus status;
+    private LocalDateTime createdAt;
+}
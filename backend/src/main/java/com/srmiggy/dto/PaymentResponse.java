@@ -0,0 +1,26 @@
+package com.srmiggy.dto;
+
+import com.srmiggy.model.PaymentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A payment with its order referenced by id only
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentResponse {
+    private UUID id;
+    private UUID orderId;
+    private Double amount;
+    private PaymentStatus status;
+    private String provider;
+    private String providerOrderId;
+    private String providerPaymentId;
+    private LocalDateTime createdAt;
+}
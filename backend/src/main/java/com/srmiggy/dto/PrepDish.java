@@ -0,0 +1,20 @@
+package com.srmiggy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * How many of one dish a kitchen has to cook for a slot, and how many are cooked awaiting pickup
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PrepDish {
+    private UUID menuItemId;
+    private String name;
+    private Integer toCook;
+    private Integer ready;
+}
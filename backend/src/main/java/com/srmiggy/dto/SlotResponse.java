@@ -0,0 +1,24 @@
+package com.srmiggy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * A delivery slot as shown to customers and admins; capacities are null when unlimited
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotResponse {
+    private UUID id;
+    private String displayName;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private Boolean active;
+    private Integer capacity;
+    private Integer vendorCapacity;
+}
@@ -0,0 +1,26 @@
+package com.srmiggy.dto;
+
+import com.srmiggy.model.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A user as listed to admins, without credentials or wallet
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserResponse {
+    private UUID id;
+    private String username;
+    private String email;
+    private String fullName;
+    private String phone;
+    private UserRole role;
+    private Boolean enabled;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,23 @@
+package com.srmiggy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Today's CONFIRMED, PREPARING and READY orders for a vendor, grouped by delivery slot
+ * version is the id of the last change included; changes on the board's event stream follow it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VendorBoard {
+    private UUID vendorId;
+    private LocalDate date;
+    private String version;
+    private List<BoardSlot> slots;
+}
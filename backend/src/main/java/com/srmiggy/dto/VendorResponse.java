@@ -0,0 +1,24 @@
+package com.srmiggy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A vendor as shown in listings, without its owner account
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VendorResponse {
+    private UUID id;
+    private String name;
+    private String description;
+    private String imageUrl;
+    private Boolean active;
+    private Double rating;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,21 @@
+package com.srmiggy.dto;
+
+import com.srmiggy.model.WalletTransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WalletEntry {
+    private UUID id;
+    private Double amount;
+    private WalletTransactionType type;
+    private String description;
+    private Double balanceAfter;
+    private LocalDateTime createdAt;
+}
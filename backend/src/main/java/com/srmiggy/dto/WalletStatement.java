@@ -0,0 +1,20 @@
+package com.srmiggy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WalletStatement {
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private Double openingBalance;
+    private Double totalCredits;
+    private Double totalDebits;
+    private Double closingBalance;
+    private Long transactionCount;
+}
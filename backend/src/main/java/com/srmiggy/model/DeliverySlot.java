@@ -1,5 +1,6 @@
 package com.srmiggy.model;
 
+import com.srmiggy.service.SlotEntityListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -14,6 +15,7 @@ import java.util.UUID;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@EntityListeners(SlotEntityListener.class)
 public class DeliverySlot {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -30,6 +32,12 @@ public class DeliverySlot {
 
     private String displayName;
 
+    // Maximum orders across all vendors for this slot each day, null means unlimited
+    private Integer capacity;
+
+    // Maximum orders per vendor for this slot each day, null means unlimited
+    private Integer vendorCapacity;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -1,5 +1,7 @@
 package com.srmiggy.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.srmiggy.service.OrderEntityListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -11,28 +13,43 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_orders_status_created_at_id", columnList = "status, created_at, id"),
+        @Index(name = "idx_orders_vendor_created_at_id", columnList = "vendor_id, created_at, id"),
+        @Index(name = "idx_orders_customer_created_at_id", columnList = "customer_id, created_at, id"),
+        @Index(name = "idx_orders_rider_id", columnList = "rider_id")
+})
+@NamedEntityGraph(name = Order.QUEUE_GRAPH, attributeNodes = {
+        @NamedAttributeNode("customer"),
+        @NamedAttributeNode("deliverySlot"),
+        @NamedAttributeNode(value = "items", subgraph = "items")
+}, subgraphs = @NamedSubgraph(name = "items", attributeNodes = @NamedAttributeNode("menuItem")))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@EntityListeners(OrderEntityListener.class)
 public class Order {
+    // A vendor's queue: who ordered what, for which slot
+    public static final String QUEUE_GRAPH = "Order.queue";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customer_id", nullable = false)
     private User customer;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "vendor_id", nullable = false)
     private Vendor vendor;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "slot_id", nullable = false)
     private DeliverySlot deliverySlot;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "rider_id")
     private Rider rider;
 
@@ -65,6 +82,11 @@ public class Order {
 
     private String customerPhone;
 
+    // Status as last read from or written to the database, used to detect transitions
+    @Transient
+    @JsonIgnore
+    private OrderStatus persistedStatus;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -1,5 +1,6 @@
 package com.srmiggy.model;
 
+import com.srmiggy.service.SettingsEntityListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -13,6 +14,7 @@ import java.util.UUID;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@EntityListeners(SettingsEntityListener.class)
 public class Settings {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
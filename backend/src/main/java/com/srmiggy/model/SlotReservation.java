@@ -0,0 +1,43 @@
+package com.srmiggy.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "slot_reservations",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"service_date", "slot_id", "vendor_id"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotReservation {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "service_date", nullable = false)
+    private LocalDate serviceDate;
+
+    @Column(name = "slot_id", nullable = false)
+    private UUID slotId;
+
+    @Column(name = "vendor_id", nullable = false)
+    private UUID vendorId;
+
+    @Column(nullable = false)
+    private Integer reserved = 0;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
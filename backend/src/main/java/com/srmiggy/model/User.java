@@ -1,19 +1,26 @@
 package com.srmiggy.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.srmiggy.service.StatsEntityListener;
+import com.srmiggy.service.UserEntityListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_created_at_id", columnList = "created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@EntityListeners({StatsEntityListener.class, UserEntityListener.class})
+@DynamicUpdate // saving a loaded User must not write back a stale walletBalance
 public class User {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -1,5 +1,7 @@
 package com.srmiggy.model;
 
+import com.srmiggy.service.MenuEntityListener;
+import com.srmiggy.service.StatsEntityListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -9,10 +11,13 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "vendors")
+@Table(name = "vendors", indexes = {
+        @Index(name = "idx_vendors_created_at_id", columnList = "created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@EntityListeners({MenuEntityListener.class, StatsEntityListener.class})
 public class Vendor {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -31,7 +36,7 @@ public class Vendor {
 
     private Double rating = 0.0;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User owner;
 
@@ -0,0 +1,31 @@
+package com.srmiggy.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "wallet_snapshots",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "snapshot_at"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WalletSnapshot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    // Balance as of this instant: every ledger row created before it is included
+    @Column(name = "snapshot_at", nullable = false)
+    private LocalDateTime snapshotAt;
+
+    @Column(nullable = false)
+    private Double balance;
+}
@@ -1,15 +1,32 @@
 package com.srmiggy.repository;
 
+import com.srmiggy.dto.MenuItemResponse;
 import com.srmiggy.model.MenuItem;
 import com.srmiggy.model.Vendor;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface MenuItemRepository extends JpaRepository<MenuItem, UUID> {
     List<MenuItem> findByVendor(Vendor vendor);
     List<MenuItem> findByVendorAndAvailableTrue(Vendor vendor);
+
+    List<MenuItem> findByIdIn(Collection<UUID> ids);
+
+    @Query("SELECT new com.srmiggy.dto.MenuItemResponse(m.id, m.vendor.id, m.name, m.description, m.price, " +
+           "m.imageUrl, m.available, m.category, m.isVeg) " +
+           "FROM MenuItem m WHERE m.vendor.id = :vendorId AND m.available = true")
+    List<MenuItemResponse> findAvailableResponsesByVendorId(@Param("vendorId") UUID vendorId);
+
+    @Query("SELECT new com.srmiggy.dto.MenuItemResponse(m.id, m.vendor.id, m.name, m.description, m.price, " +
+           "m.imageUrl, m.available, m.category, m.isVeg) " +
+           "FROM MenuItem m WHERE m.id = :id")
+    Optional<MenuItemResponse> findResponseById(@Param("id") UUID id);
 }
@@ -1,11 +1,19 @@
 package com.srmiggy.repository;
 
+import com.srmiggy.dto.OrderLine;
 import com.srmiggy.model.OrderItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface OrderItemRepository extends JpaRepository<OrderItem, UUID> {
+
+    @Query("SELECT new com.srmiggy.dto.OrderLine(i.menuItem.id, i.menuItem.name, i.quantity, i.price, i.subtotal) " +
+           "FROM OrderItem i WHERE i.order.id = :orderId ORDER BY i.createdAt, i.id")
+    List<OrderLine> findLinesByOrderId(@Param("orderId") UUID orderId);
 }
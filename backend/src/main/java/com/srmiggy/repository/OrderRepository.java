@@ -1,19 +1,117 @@
 package com.srmiggy.repository;
 
+import com.srmiggy.dto.AdminOrderRow;
+import com.srmiggy.dto.DispatchCandidate;
+import com.srmiggy.dto.OrderResponse;
+import com.srmiggy.dto.OrderSummary;
 import com.srmiggy.model.Order;
 import com.srmiggy.model.OrderStatus;
+import com.srmiggy.model.Rider;
 import com.srmiggy.model.User;
-import com.srmiggy.model.Vendor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, UUID> {
+public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecificationExecutor<Order> {
     List<Order> findByCustomer(User customer);
-    List<Order> findByVendor(Vendor vendor);
     List<Order> findByStatus(OrderStatus status);
-    List<Order> findByCustomerOrderByCreatedAtDesc(User customer);
+    List<Order> findByStatusAndCreatedAtBefore(OrderStatus status, LocalDateTime createdAt);
+
+    // Range scan on idx_orders_vendor_created_at_id; the status filter only sees the vendor's orders in range
+    @EntityGraph(Order.QUEUE_GRAPH)
+    @Query("SELECT o FROM Order o WHERE o.vendor.id = :vendorId " +
+           "AND o.createdAt >= :from AND o.createdAt < :to AND o.status IN :statuses " +
+           "ORDER BY o.createdAt, o.id")
+    List<Order> findQueue(@Param("vendorId") UUID vendorId,
+                          @Param("from") LocalDateTime from,
+                          @Param("to") LocalDateTime to,
+                          @Param("statuses") Collection<OrderStatus> statuses);
+
+    @EntityGraph(Order.QUEUE_GRAPH)
+    @Query("SELECT o FROM Order o WHERE o.id = :id")
+    Optional<Order> findQueueOrderById(@Param("id") UUID id);
+
+    @Query("SELECT new com.srmiggy.dto.OrderSummary(o.id, o.vendor.name, o.total, o.status, o.createdAt) " +
+           "FROM Order o WHERE o.customer.id = :customerId " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderSummary> findSummariesByCustomerId(@Param("customerId") UUID customerId, Limit limit);
+
+    @Query("SELECT new com.srmiggy.dto.OrderSummary(o.id, o.vendor.name, o.total, o.status, o.createdAt) " +
+           "FROM Order o WHERE o.customer.id = :customerId " +
+           "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderSummary> findSummariesByCustomerIdAfter(@Param("customerId") UUID customerId,
+                                                      @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("id") UUID id,
+                                                      Limit limit);
+
+    @Query("SELECT new com.srmiggy.dto.OrderResponse(o.id, o.customer.id, owner.id, v.id, v.name, s.id, s.displayName, " +
+           "o.status, o.deliveryAddress, o.customerPhone, o.subtotal, o.deliveryFee, o.platformFee, " +
+           "o.loyaltyPointsUsed, o.loyaltyPointsEarned, o.total, o.createdAt, o.updatedAt) " +
+           "FROM Order o JOIN o.vendor v LEFT JOIN v.owner owner JOIN o.deliverySlot s WHERE o.id = :id")
+    Optional<OrderResponse> findResponseById(@Param("id") UUID id);
+
+    @Query("SELECT new com.srmiggy.dto.AdminOrderRow(o.id, c.fullName, o.customerPhone, v.name, s.displayName, " +
+           "o.total, o.status, o.createdAt) " +
+           "FROM Order o JOIN o.customer c JOIN o.vendor v JOIN o.deliverySlot s WHERE o.id = :id")
+    Optional<AdminOrderRow> findAdminRowById(@Param("id") UUID id);
+
+    // Range scan on idx_orders_status_created_at_id, earliest slot first
+    @Query("SELECT new com.srmiggy.dto.DispatchCandidate(o.id, o.vendor.id, s.id, s.startTime, o.deliveryAddress, o.updatedAt) " +
+           "FROM Order o JOIN o.deliverySlot s " +
+           "WHERE o.status = :status AND o.createdAt >= :from AND o.rider IS NULL " +
+           "ORDER BY s.startTime, o.updatedAt, o.id")
+    List<DispatchCandidate> findDispatchCandidates(@Param("status") OrderStatus status,
+                                                   @Param("from") LocalDateTime from);
+
+    // Changes the status only if no one has moved the order on since it was read; returns the number of rows changed
+    @Modifying
+    @Query("UPDATE Order o SET o.status = :to, o.updatedAt = :updatedAt WHERE o.id = :id AND o.status = :from")
+    int updateStatusIf(@Param("id") UUID id,
+                       @Param("from") OrderStatus from,
+                       @Param("to") OrderStatus to,
+                       @Param("updatedAt") LocalDateTime updatedAt);
+
+    // Assigns only the orders still waiting for a rider; returns the number of rows changed
+    @Modifying
+    @Query("UPDATE Order o SET o.rider = :rider, o.updatedAt = :updatedAt " +
+           "WHERE o.id IN :ids AND o.status = :status AND o.rider IS NULL")
+    int assignRiderIf(@Param("rider") Rider rider,
+                      @Param("ids") Collection<UUID> ids,
+                      @Param("status") OrderStatus status,
+                      @Param("updatedAt") LocalDateTime updatedAt);
+
+    boolean existsByRiderIdAndStatusIn(UUID riderId, Collection<OrderStatus> statuses);
+
+    @Query("SELECT o.status AS status, COUNT(o) AS count FROM Order o GROUP BY o.status")
+    List<StatusCount> countGroupByStatus();
+
+    @Query("SELECT CAST(o.createdAt AS LocalDate) AS day, o.vendor.id AS vendorId, SUM(o.total) AS revenue " +
+           "FROM Order o WHERE o.status = :status " +
+           "GROUP BY CAST(o.createdAt AS LocalDate), o.vendor.id")
+    List<DailyVendorRevenue> sumTotalGroupByDayAndVendor(@Param("status") OrderStatus status);
+
+    interface StatusCount {
+        OrderStatus getStatus();
+        Long getCount();
+    }
+
+    interface DailyVendorRevenue {
+        LocalDate getDay();
+        UUID getVendorId();
+        Double getRevenue();
+    }
 }
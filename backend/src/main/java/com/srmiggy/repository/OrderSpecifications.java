@@ -0,0 +1,47 @@
+package com.srmiggy.repository;
+
+import com.srmiggy.model.Order;
+import com.srmiggy.model.OrderStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Optional filters for order listings; a null argument matches every order
+ */
+public final class OrderSpecifications {
+
+    private OrderSpecifications() {
+    }
+
+    public static Specification<Order> hasStatus(OrderStatus status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Order> hasVendor(UUID vendorId) {
+        return (root, query, cb) -> vendorId == null ? null : cb.equal(root.get("vendor").get("id"), vendorId);
+    }
+
+    public static Specification<Order> createdFrom(LocalDateTime from) {
+        return (root, query, cb) -> from == null ? null : cb.greaterThanOrEqualTo(root.get("createdAt"), from);
+    }
+
+    public static Specification<Order> createdBefore(LocalDateTime before) {
+        return (root, query, cb) -> before == null ? null : cb.lessThan(root.get("createdAt"), before);
+    }
+
+    /**
+     * Fetch what an admin list row shows (customer, vendor and slot) in the same statement
+     */
+    public static Specification<Order> fetchSummaryGraph() {
+        return (root, query, cb) -> {
+            if (Order.class.equals(query.getResultType())) {
+                root.fetch("customer");
+                root.fetch("vendor");
+                root.fetch("deliverySlot");
+            }
+            return null;
+        };
+    }
+}
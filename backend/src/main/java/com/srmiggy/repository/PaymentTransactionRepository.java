@@ -1,8 +1,12 @@
 package com.srmiggy.repository;
 
+import com.srmiggy.dto.PaymentResponse;
 import com.srmiggy.model.PaymentTransaction;
 import com.srmiggy.model.Order;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -11,5 +15,13 @@ import java.util.UUID;
 @Repository
 public interface PaymentTransactionRepository extends JpaRepository<PaymentTransaction, UUID> {
     Optional<PaymentTransaction> findByOrder(Order order);
+
+    // Verification always moves the order on, so load it with the transaction
+    @EntityGraph(attributePaths = "order")
     Optional<PaymentTransaction> findByProviderOrderId(String providerOrderId);
+
+    @Query("SELECT new com.srmiggy.dto.PaymentResponse(p.id, p.order.id, p.amount, p.status, p.provider, " +
+           "p.providerOrderId, p.providerPaymentId, p.createdAt) " +
+           "FROM PaymentTransaction p WHERE p.order.id = :orderId")
+    Optional<PaymentResponse> findResponseByOrderId(@Param("orderId") UUID orderId);
 }
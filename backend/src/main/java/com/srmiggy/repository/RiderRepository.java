@@ -1,10 +1,15 @@
 package com.srmiggy.repository;
 
+import com.srmiggy.dto.AvailableRider;
 import com.srmiggy.model.Rider;
 import com.srmiggy.model.Vendor;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -12,4 +17,17 @@ import java.util.UUID;
 public interface RiderRepository extends JpaRepository<Rider, UUID> {
     List<Rider> findByVendor(Vendor vendor);
     List<Rider> findByVendorAndAvailableTrue(Vendor vendor);
+
+    // Longest idle first
+    @Query("SELECT new com.srmiggy.dto.AvailableRider(r.id, v.id) FROM Rider r LEFT JOIN r.vendor v " +
+           "WHERE r.available = true ORDER BY r.updatedAt, r.id")
+    List<AvailableRider> findAvailable();
+
+    // Takes or frees a rider only if no one else has since; returns the number of rows changed
+    @Modifying
+    @Query("UPDATE Rider r SET r.available = :available, r.updatedAt = :updatedAt " +
+           "WHERE r.id = :id AND r.available <> :available")
+    int updateAvailableIf(@Param("id") UUID id,
+                          @Param("available") boolean available,
+                          @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -0,0 +1,16 @@
+package com.srmiggy.repository;
+
+import com.srmiggy.model.SlotReservation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface SlotReservationRepository extends JpaRepository<SlotReservation, UUID> {
+    List<SlotReservation> findByServiceDate(LocalDate serviceDate);
+    Optional<SlotReservation> findByServiceDateAndSlotIdAndVendorId(LocalDate serviceDate, UUID slotId, UUID vendorId);
+}
@@ -1,10 +1,16 @@
 package com.srmiggy.repository;
 
+import com.srmiggy.dto.UserResponse;
 import com.srmiggy.model.User;
 import com.srmiggy.model.UserRole;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,4 +22,63 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     List<User> findByRole(UserRole role);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+
+    // A null role lists every user
+    @Query("SELECT new com.srmiggy.dto.UserResponse(u.id, u.username, u.email, u.fullName, u.phone, u.role, u.enabled, u.createdAt) " +
+           "FROM User u WHERE (:role IS NULL OR u.role = :role) " +
+           "ORDER BY u.createdAt DESC, u.id DESC")
+    List<UserResponse> findResponses(@Param("role") UserRole role, Limit limit);
+
+    @Query("SELECT new com.srmiggy.dto.UserResponse(u.id, u.username, u.email, u.fullName, u.phone, u.role, u.enabled, u.createdAt) " +
+           "FROM User u WHERE (:role IS NULL OR u.role = :role) " +
+           "AND (u.createdAt < :createdAt OR (u.createdAt = :createdAt AND u.id < :id)) " +
+           "ORDER BY u.createdAt DESC, u.id DESC")
+    List<UserResponse> findResponsesAfter(@Param("role") UserRole role,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") UUID id,
+                                          Limit limit);
+
+    @Query("SELECT u.walletBalance FROM User u WHERE u.id = :userId")
+    Optional<Double> findWalletBalanceById(@Param("userId") UUID userId);
+
+    // Balance each user had at the given instant, read in one statement so it is consistent with the ledger
+    @Query("SELECT u.id AS userId, u.walletBalance - COALESCE((" +
+           "SELECT SUM(CASE WHEN t.type = com.srmiggy.model.WalletTransactionType.CREDIT THEN t.amount ELSE -t.amount END) " +
+           "FROM WalletTransaction t WHERE t.user = u AND t.createdAt >= :at), 0.0) AS balance " +
+           "FROM User u")
+    List<WalletBalance> findWalletBalancesAt(@Param("at") LocalDateTime at);
+
+    // Debits only when the balance covers the amount; returns the number of rows changed
+    @Modifying
+    @Query(value = "UPDATE users SET wallet_balance = wallet_balance - :amount, updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE id = :userId AND wallet_balance >= :amount",
+           nativeQuery = true)
+    int debitWallet(@Param("userId") UUID userId, @Param("amount") Double amount);
+
+    @Modifying
+    @Query(value = "UPDATE users SET wallet_balance = wallet_balance + :amount, updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE id = :userId",
+           nativeQuery = true)
+    int creditWallet(@Param("userId") UUID userId, @Param("amount") Double amount);
+
+    @Query("SELECT u.loyaltyPoints FROM User u WHERE u.id = :userId")
+    Optional<Double> findLoyaltyPointsById(@Param("userId") UUID userId);
+
+    @Modifying
+    @Query(value = "UPDATE users SET loyalty_points = loyalty_points + :points, updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE id = :userId",
+           nativeQuery = true)
+    int addLoyaltyPoints(@Param("userId") UUID userId, @Param("points") Double points);
+
+    // Deducts only when the user still holds enough points; returns the number of rows changed
+    @Modifying
+    @Query(value = "UPDATE users SET loyalty_points = loyalty_points - :points, updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE id = :userId AND loyalty_points >= :points",
+           nativeQuery = true)
+    int deductLoyaltyPoints(@Param("userId") UUID userId, @Param("points") Double points);
+
+    interface WalletBalance {
+        UUID getUserId();
+        Double getBalance();
+    }
 }
@@ -1,13 +1,41 @@
 package com.srmiggy.repository;
 
+import com.srmiggy.dto.VendorResponse;
 import com.srmiggy.model.Vendor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface VendorRepository extends JpaRepository<Vendor, UUID> {
     List<Vendor> findByActiveTrue();
+
+    @Query("SELECT new com.srmiggy.dto.VendorResponse(v.id, v.name, v.description, v.imageUrl, v.active, v.rating, v.createdAt) " +
+           "FROM Vendor v WHERE v.active = true")
+    List<VendorResponse> findActiveResponses();
+
+    @Query("SELECT new com.srmiggy.dto.VendorResponse(v.id, v.name, v.description, v.imageUrl, v.active, v.rating, v.createdAt) " +
+           "FROM Vendor v WHERE v.id = :id")
+    Optional<VendorResponse> findResponseById(@Param("id") UUID id);
+
+    @Query("SELECT new com.srmiggy.dto.VendorResponse(v.id, v.name, v.description, v.imageUrl, v.active, v.rating, v.createdAt) " +
+           "FROM Vendor v ORDER BY v.createdAt DESC, v.id DESC")
+    List<VendorResponse> findResponses(Limit limit);
+
+    @Query("SELECT new com.srmiggy.dto.VendorResponse(v.id, v.name, v.description, v.imageUrl, v.active, v.rating, v.createdAt) " +
+           "FROM Vendor v WHERE v.createdAt < :createdAt OR (v.createdAt = :createdAt AND v.id < :id) " +
+           "ORDER BY v.createdAt DESC, v.id DESC")
+    List<VendorResponse> findResponsesAfter(@Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") UUID id,
+                                            Limit limit);
+
+    @Query("SELECT v.id FROM Vendor v WHERE v.owner.id = :ownerId")
+    Optional<UUID> findIdByOwnerId(@Param("ownerId") UUID ownerId);
 }
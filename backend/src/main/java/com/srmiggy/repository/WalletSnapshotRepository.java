@@ -0,0 +1,20 @@
+package com.srmiggy.repository;
+
+import com.srmiggy.model.WalletSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface WalletSnapshotRepository extends JpaRepository<WalletSnapshot, UUID> {
+    @Query("SELECT s FROM WalletSnapshot s WHERE s.snapshotAt = " +
+           "(SELECT MAX(s2.snapshotAt) FROM WalletSnapshot s2 WHERE s2.userId = s.userId)")
+    List<WalletSnapshot> findLatestPerUser();
+
+    Optional<WalletSnapshot> findFirstByUserIdAndSnapshotAtLessThanEqualOrderBySnapshotAtDesc(UUID userId, LocalDateTime at);
+}
@@ -1,14 +1,58 @@
 package com.srmiggy.repository;
 
-import com.srmiggy.model.User;
+import com.srmiggy.dto.WalletEntry;
 import com.srmiggy.model.WalletTransaction;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface WalletTransactionRepository extends JpaRepository<WalletTransaction, UUID> {
-    List<WalletTransaction> findByUserOrderByCreatedAtDesc(User user);
+    @Query("SELECT new com.srmiggy.dto.WalletEntry(t.id, t.amount, t.type, t.description, t.balanceAfter, t.createdAt) " +
+           "FROM WalletTransaction t WHERE t.user.id = :userId " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<WalletEntry> findEntriesByUserId(@Param("userId") UUID userId, Limit limit);
+
+    @Query("SELECT new com.srmiggy.dto.WalletEntry(t.id, t.amount, t.type, t.description, t.balanceAfter, t.createdAt) " +
+           "FROM WalletTransaction t WHERE t.user.id = :userId " +
+           "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<WalletEntry> findEntriesByUserIdAfter(@Param("userId") UUID userId,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") UUID id,
+                                               Limit limit);
+
+    @Query("SELECT COALESCE(SUM(CASE WHEN t.type = com.srmiggy.model.WalletTransactionType.CREDIT THEN t.amount ELSE 0.0 END), 0.0) AS credits, " +
+           "COALESCE(SUM(CASE WHEN t.type = com.srmiggy.model.WalletTransactionType.DEBIT THEN t.amount ELSE 0.0 END), 0.0) AS debits, " +
+           "COUNT(t) AS count " +
+           "FROM WalletTransaction t WHERE t.user.id = :userId AND t.createdAt >= :from AND t.createdAt < :to")
+    LedgerTotals sumByUserIdBetween(@Param("userId") UUID userId,
+                                    @Param("from") LocalDateTime from,
+                                    @Param("to") LocalDateTime to);
+
+    // Writes the ledger row with balance_after read from the user row this transaction just updated
+    @Modifying
+    @Query(value = "INSERT INTO wallet_transactions (id, user_id, amount, type, description, balance_after, created_at) " +
+                   "SELECT :id, u.id, :amount, :type, :description, u.wallet_balance, :createdAt " +
+                   "FROM users u WHERE u.id = :userId",
+           nativeQuery = true)
+    int insertForUser(@Param("id") UUID id,
+                      @Param("userId") UUID userId,
+                      @Param("amount") Double amount,
+                      @Param("type") String type,
+                      @Param("description") String description,
+                      @Param("createdAt") LocalDateTime createdAt);
+
+    interface LedgerTotals {
+        Double getCredits();
+        Double getDebits();
+        Long getCount();
+    }
 }
@@ -0,0 +1,26 @@
+package com.srmiggy.security;
+
+import com.srmiggy.model.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+import java.util.UUID;
+
+/**
+ * Principal of a JWT-authenticated request, built from the token's signed claims
+ * Controllers take it with @AuthenticationPrincipal and pass the id on, so services
+ * never need to resolve the username back into a user row.
+ */
+@Getter
+@AllArgsConstructor
+public class AuthenticatedUser implements AuthenticatedPrincipal {
+    private final UUID id;
+    private final String username;
+    private final UserRole role;
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
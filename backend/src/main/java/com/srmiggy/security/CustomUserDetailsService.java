@@ -1,28 +1,83 @@
 package com.srmiggy.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.srmiggy.model.User;
 import com.srmiggy.repository.UserRepository;
+import com.srmiggy.service.UserChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Loads users for authentication through a TTL- and size-bounded cache, so an
+ * authenticated request does not need a users SELECT in the common case.
+ * Entries are evicted once a change to the user commits.
+ */
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${security.user-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${security.user-cache.max-size:10000}")
+    private int maxSize;
+
+    private Cache<String, UserDetails> users;
+
+    // A login that read the user row just before a password or role change committed
+    // sees this move on and does not cache the old credentials for the rest of the TTL
+    private final AtomicLong generation = new AtomicLong();
+
+    // Evictions for user changes; the cache counts its own size and TTL evictions
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        users = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                // Expired users are cleaned up by the request doing the lookup
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+        // Hit rate and size under cache="userDetails" on /actuator/prometheus
+        CaffeineCacheMetrics.monitor(meterRegistry, users, "userDetails");
+    }
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        UserDetails cached = users.getIfPresent(username);
+        if (cached != null) {
+            return copy(cached);
+        }
+
+        long loadGeneration = generation.get();
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
 
-        return new org.springframework.security.core.userdetails.User(
+        UserDetails details = new org.springframework.security.core.userdetails.User(
                 user.getUsername(),
                 user.getPassword(),
                 user.getEnabled(),
@@ -31,5 +86,45 @@ public class CustomUserDetailsService implements UserDetailsService {
                 true,
                 Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()))
         );
+
+        users.put(username, details);
+        if (generation.get() != loadGeneration) {
+            users.asMap().remove(username, details);
+        }
+        return copy(details);
+    }
+
+    /**
+     * Forget a user after their account is updated, so a new password, role or
+     * disabled flag applies from the next request
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.getUsername());
+    }
+
+    public void evict(String username) {
+        generation.incrementAndGet();
+        if (users.asMap().remove(username) != null) {
+            invalidations.incrementAndGet();
+        }
+    }
+
+    /**
+     * Hit, miss and eviction counters since startup, plus the current entry count
+     */
+    public Map<String, Long> getCacheStats() {
+        CacheStats cacheStats = users.stats();
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("hits", cacheStats.hitCount());
+        stats.put("misses", cacheStats.missCount());
+        stats.put("evictions", cacheStats.evictionCount() + invalidations.get());
+        stats.put("size", users.estimatedSize());
+        return stats;
+    }
+
+    // Callers get their own copy: authentication erases the password on the instance it is handed
+    private static UserDetails copy(UserDetails details) {
+        return org.springframework.security.core.userdetails.User.withUserDetails(details).build();
     }
 }
@@ -1,5 +1,6 @@
 package com.srmiggy.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -30,24 +31,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         final String authorizationHeader = request.getHeader("Authorization");
         
-        String username = null;
-        String jwt = null;
+        AuthenticatedUser principal = null;
+        Claims claims = null;
         
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7);
+            String jwt = authorizationHeader.substring(7);
             try {
-                username = jwtUtil.extractUsername(jwt);
+                // Verified once here; the claims are reused below
+                claims = jwtUtil.parseToken(jwt);
+                principal = jwtUtil.toPrincipal(claims);
             } catch (Exception e) {
                 // Invalid token
             }
         }
         
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+        if (principal != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            // Served from the user-details cache in the common case
+            UserDetails userDetails = this.userDetailsService.loadUserByUsername(principal.getUsername());
             
-            if (jwtUtil.validateToken(jwt, userDetails)) {
+            if (jwtUtil.validateToken(claims, userDetails) && jwtUtil.validatePrincipal(principal, userDetails)) {
                 UsernamePasswordAuthenticationToken authenticationToken = 
-                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                    new UsernamePasswordAuthenticationToken(principal, null, userDetails.getAuthorities());
                 authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authenticationToken);
             }
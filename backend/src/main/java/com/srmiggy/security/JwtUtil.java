@@ -1,31 +1,67 @@
 package com.srmiggy.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.srmiggy.model.User;
+import com.srmiggy.model.UserRole;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Component
 public class JwtUtil {
+
+    private static final String USER_ID_CLAIM = "userId";
+    private static final String ROLE_CLAIM = "role";
     
     @Value("${jwt.secret}")
     private String secret;
     
     @Value("${jwt.expiration}")
     private Long expiration;
-    
-    private Key getSigningKey() {
+
+    @Value("${jwt.verified-cache-size:10000}")
+    private int verifiedCacheSize;
+
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    // Claims of tokens whose signature has already been checked, keyed by SHA-256 of the token;
+    // each entry expires with its token, and the cache evicts by size when full
+    private Cache<String, Claims> verifiedTokens;
+
+    @PostConstruct
+    public void init() {
         byte[] keyBytes = Decoders.BASE64.decode(secret);
-        return Keys.hmacShaKeyFor(keyBytes);
+        signingKey = Keys.hmacShaKeyFor(keyBytes);
+        parser = Jwts.parser().verifyWith(signingKey).build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new TokenExpiry())
+                // Expired tokens are dropped while the cache is read and written, with no background task
+                .executor(Runnable::run)
+                .build();
     }
     
     public String extractUsername(String token) {
@@ -37,25 +73,49 @@ public class JwtUtil {
     }
     
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = parseToken(token);
         return claimsResolver.apply(claims);
     }
-    
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith((javax.crypto.SecretKey) getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+
+    /**
+     * Verify a token and return its claims
+     * A token seen before is answered from the verified-token cache until it expires;
+     * invalid or expired tokens throw a JwtException and are never cached.
+     */
+    public Claims parseToken(String token) {
+        String key = hash(token);
+        Claims cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && !isExpired(cached)) {
+            return cached;
+        }
+
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        verifiedTokens.put(key, claims);
+        return claims;
     }
     
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private boolean isExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
     
-    public String generateToken(UserDetails userDetails) {
+    public String generateToken(User user) {
         Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, userDetails.getUsername());
+        claims.put(USER_ID_CLAIM, user.getId().toString());
+        claims.put(ROLE_CLAIM, user.getRole().name());
+        return createToken(claims, user.getUsername());
+    }
+
+    /**
+     * Principal carried by verified claims
+     * Tokens issued before the id and role claims existed are rejected, so their holders log in again.
+     */
+    public AuthenticatedUser toPrincipal(Claims claims) {
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (userId == null || role == null) {
+            throw new JwtException("Token is missing user claims");
+        }
+        return new AuthenticatedUser(UUID.fromString(userId), claims.getSubject(), UserRole.valueOf(role));
     }
     
     private String createToken(Map<String, Object> claims, String subject) {
@@ -64,12 +124,52 @@ public class JwtUtil {
                 .subject(subject)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
     
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        return validateToken(parseToken(token), userDetails);
+    }
+
+    public Boolean validateToken(Claims claims, UserDetails userDetails) {
+        return (claims.getSubject().equals(userDetails.getUsername()) && !isExpired(claims));
+    }
+
+    /**
+     * Check a principal against the current account: it must still be enabled and hold the
+     * role the token was issued for, so role changes and disabling take effect before expiry
+     */
+    public Boolean validatePrincipal(AuthenticatedUser principal, UserDetails userDetails) {
+        return userDetails.isEnabled()
+                && userDetails.getAuthorities().contains(new SimpleGrantedAuthority("ROLE_" + principal.getRole().name()));
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // A cached token lives until its exp claim; reads and replacements leave that unchanged
+    private static class TokenExpiry implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long remaining = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remaining));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -0,0 +1,149 @@
+package com.srmiggy.service;
+
+import com.srmiggy.model.OrderStatus;
+import com.srmiggy.model.User;
+import com.srmiggy.model.Vendor;
+import com.srmiggy.repository.OrderRepository;
+import com.srmiggy.repository.UserRepository;
+import com.srmiggy.repository.VendorRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Running aggregates behind the admin dashboard
+ * Rebuilt from the database once at startup, then kept current from order status
+ * transitions and user/vendor inserts, so reading them never scans the orders table.
+ * Revenue counts DELIVERED orders, bucketed by the day the order was placed.
+ */
+@Service
+public class AdminStatsService {
+
+    private static final int REVENUE_DAYS = 30;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VendorRepository vendorRepository;
+
+    private final Map<OrderStatus, AtomicLong> ordersByStatus = new EnumMap<>(OrderStatus.class);
+    private final Map<LocalDate, DoubleAdder> revenueByDay = new ConcurrentHashMap<>();
+    private final Map<UUID, DoubleAdder> revenueByVendor = new ConcurrentHashMap<>();
+    private final DoubleAdder totalRevenue = new DoubleAdder();
+    private final AtomicLong totalUsers = new AtomicLong();
+    private final AtomicLong totalVendors = new AtomicLong();
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    public AdminStatsService() {
+        for (OrderStatus status : OrderStatus.values()) {
+            ordersByStatus.put(status, new AtomicLong());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            rebuildCounters();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void rebuildCounters() {
+        ordersByStatus.values().forEach(count -> count.set(0));
+        for (OrderRepository.StatusCount row : orderRepository.countGroupByStatus()) {
+            ordersByStatus.get(row.getStatus()).set(row.getCount());
+        }
+
+        revenueByDay.clear();
+        revenueByVendor.clear();
+        totalRevenue.reset();
+        for (OrderRepository.DailyVendorRevenue row : orderRepository.sumTotalGroupByDayAndVendor(OrderStatus.DELIVERED)) {
+            addRevenue(row.getDay(), row.getVendorId(), row.getRevenue());
+        }
+
+        totalUsers.set(userRepository.count());
+        totalVendors.set(vendorRepository.count());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        if (event.getPreviousStatus() != null) {
+            ordersByStatus.get(event.getPreviousStatus()).decrementAndGet();
+        }
+        ordersByStatus.get(event.getStatus()).incrementAndGet();
+
+        LocalDate day = event.getCreatedAt().toLocalDate();
+        if (event.getStatus() == OrderStatus.DELIVERED) {
+            addRevenue(day, event.getVendorId(), event.getTotal());
+        } else if (event.getPreviousStatus() == OrderStatus.DELIVERED) {
+            addRevenue(day, event.getVendorId(), -event.getTotal());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityCountChanged(EntityCountChangedEvent event) {
+        if (User.class.isAssignableFrom(event.getEntityType())) {
+            totalUsers.addAndGet(event.getDelta());
+        } else if (Vendor.class.isAssignableFrom(event.getEntityType())) {
+            totalVendors.addAndGet(event.getDelta());
+        }
+    }
+
+    /**
+     * Snapshot of the dashboard numbers; revenueByDay covers the last 30 days
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Long> statusCounts = new LinkedHashMap<>();
+        long totalOrders = 0;
+        for (Map.Entry<OrderStatus, AtomicLong> entry : ordersByStatus.entrySet()) {
+            statusCounts.put(entry.getKey().name(), entry.getValue().get());
+            totalOrders += entry.getValue().get();
+        }
+
+        Map<String, Double> dailyRevenue = new LinkedHashMap<>();
+        LocalDate today = LocalDate.now();
+        for (int i = REVENUE_DAYS - 1; i >= 0; i--) {
+            LocalDate day = today.minusDays(i);
+            DoubleAdder revenue = revenueByDay.get(day);
+            dailyRevenue.put(day.toString(), revenue != null ? revenue.sum() : 0.0);
+        }
+
+        Map<UUID, Double> vendorRevenue = new LinkedHashMap<>();
+        revenueByVendor.forEach((vendorId, revenue) -> vendorRevenue.put(vendorId, revenue.sum()));
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("totalOrders", totalOrders);
+        stats.put("totalVendors", totalVendors.get());
+        stats.put("totalUsers", totalUsers.get());
+        stats.put("totalRevenue", totalRevenue.sum());
+        stats.put("ordersByStatus", statusCounts);
+        stats.put("revenueByDay", dailyRevenue);
+        stats.put("revenueByVendor", vendorRevenue);
+        return stats;
+    }
+
+    private void addRevenue(LocalDate day, UUID vendorId, double amount) {
+        revenueByDay.computeIfAbsent(day, d -> new DoubleAdder()).add(amount);
+        revenueByVendor.computeIfAbsent(vendorId, v -> new DoubleAdder()).add(amount);
+        totalRevenue.add(amount);
+    }
+}
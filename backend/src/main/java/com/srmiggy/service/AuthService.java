@@ -7,16 +7,15 @@ import com.srmiggy.model.User;
 import com.srmiggy.model.UserRole;
 import com.srmiggy.repository.UserRepository;
 import com.srmiggy.security.JwtUtil;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
+@Timed(value = "srmiggy.auth", description = "Login and registration, dominated by BCrypt", histogram = true)
 public class AuthService {
 
     @Autowired
@@ -31,9 +30,6 @@ public class AuthService {
     @Autowired
     private AuthenticationManager authenticationManager;
 
-    @Autowired
-    private UserDetailsService userDetailsService;
-
     public AuthResponse register(RegisterRequest request) {
         if (userRepository.existsByUsername(request.getUsername())) {
             throw new RuntimeException("Username already exists");
@@ -55,22 +51,19 @@ public class AuthService {
 
         userRepository.save(user);
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(user.getUsername());
-        String token = jwtUtil.generateToken(userDetails);
+        String token = jwtUtil.generateToken(user);
 
         return new AuthResponse(token, user.getUsername(), user.getEmail(), user.getRole().name(), user.getId(), user.getWalletBalance());
     }
 
     public AuthResponse login(LoginRequest request) {
-        Authentication authentication = authenticationManager.authenticate(
+        authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword())
         );
 
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        String token = jwtUtil.generateToken(userDetails);
-
         User user = userRepository.findByUsername(request.getUsername())
                 .orElseThrow(() -> new RuntimeException("User not found"));
+        String token = jwtUtil.generateToken(user);
 
         return new AuthResponse(token, user.getUsername(), user.getEmail(), user.getRole().name(), user.getId(), user.getWalletBalance());
     }
@@ -0,0 +1,57 @@
+package com.srmiggy.service;
+
+import com.srmiggy.model.DeliverySlot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Business counters for the metrics endpoint, fed from committed domain events so
+ * rolled-back checkouts are not counted
+ */
+@Component
+public class BusinessMetrics {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DeliverySlotService deliverySlotService;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        if (event.getPreviousStatus() == null) {
+            Counter.builder("srmiggy.orders.placed")
+                    .description("Orders placed, by delivery slot")
+                    .tag("slot", slotName(event))
+                    .register(meterRegistry)
+                    .increment();
+        }
+        Counter.builder("srmiggy.orders.status.transitions")
+                .description("Order status changes, by the status entered")
+                .tag("status", event.getStatus().name())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWalletDebited(WalletDebitedEvent event) {
+        DistributionSummary.builder("srmiggy.wallet.debits")
+                .description("Wallet debits and their amounts")
+                .baseUnit("rupees")
+                .register(meterRegistry)
+                .record(event.getAmount());
+    }
+
+    // The slot's display name keeps the tag readable and bounded by the number of slots
+    private String slotName(OrderStatusChangedEvent event) {
+        return deliverySlotService.getTimetable().getSlots().stream()
+                .filter(slot -> slot.getId().equals(event.getSlotId()))
+                .map(DeliverySlot::getDisplayName)
+                .findFirst()
+                .orElse(String.valueOf(event.getSlotId()));
+    }
+}
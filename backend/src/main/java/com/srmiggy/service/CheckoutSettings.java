@@ -0,0 +1,112 @@
+package com.srmiggy.service;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Immutable, typed view of the checkout rows of the settings table.
+ * Missing keys take the defaults below; a value that does not parse is rejected, or
+ * keeps its previous value when rebuilding from a previous snapshot.
+ */
+@Getter
+public final class CheckoutSettings {
+
+    public static final String MINIMUM_ORDER_VALUE = "MINIMUM_ORDER_VALUE";
+    public static final String DELIVERY_FEE = "DELIVERY_FEE";
+    public static final String PLATFORM_FEE = "PLATFORM_FEE";
+    public static final String ORDER_CUTOFF_MINUTES = "ORDER_CUTOFF_MINUTES";
+
+    public static final CheckoutSettings DEFAULTS = new CheckoutSettings(100.0, 10.0, 2.0, 50);
+
+    // Orders below this subtotal pay the delivery fee
+    private final double minimumOrderValue;
+    private final double deliveryFee;
+    private final double platformFee;
+    // Minutes before a slot ends after which it takes no more orders
+    private final int orderCutoffMinutes;
+
+    private CheckoutSettings(double minimumOrderValue, double deliveryFee, double platformFee, int orderCutoffMinutes) {
+        this.minimumOrderValue = minimumOrderValue;
+        this.deliveryFee = deliveryFee;
+        this.platformFee = platformFee;
+        this.orderCutoffMinutes = orderCutoffMinutes;
+    }
+
+    /**
+     * Build from setting key/value pairs, ignoring keys this class does not know
+     */
+    public static CheckoutSettings from(Map<String, String> values) {
+        return new CheckoutSettings(
+                amount(values, MINIMUM_ORDER_VALUE, DEFAULTS.minimumOrderValue),
+                amount(values, DELIVERY_FEE, DEFAULTS.deliveryFee),
+                amount(values, PLATFORM_FEE, DEFAULTS.platformFee),
+                minutes(values, ORDER_CUTOFF_MINUTES, DEFAULTS.orderCutoffMinutes));
+    }
+
+    /**
+     * As from(values), but each key is parsed on its own: one that does not parse keeps its
+     * value from previous and its error is added to errors, while the others still update
+     */
+    public static CheckoutSettings from(Map<String, String> values, CheckoutSettings previous, List<String> errors) {
+        return new CheckoutSettings(
+                orPrevious(() -> amount(values, MINIMUM_ORDER_VALUE, DEFAULTS.minimumOrderValue),
+                        previous.minimumOrderValue, errors),
+                orPrevious(() -> amount(values, DELIVERY_FEE, DEFAULTS.deliveryFee), previous.deliveryFee, errors),
+                orPrevious(() -> amount(values, PLATFORM_FEE, DEFAULTS.platformFee), previous.platformFee, errors),
+                orPrevious(() -> minutes(values, ORDER_CUTOFF_MINUTES, DEFAULTS.orderCutoffMinutes),
+                        previous.orderCutoffMinutes, errors));
+    }
+
+    public static boolean isKnownKey(String key) {
+        return MINIMUM_ORDER_VALUE.equals(key) || DELIVERY_FEE.equals(key)
+                || PLATFORM_FEE.equals(key) || ORDER_CUTOFF_MINUTES.equals(key);
+    }
+
+    public double deliveryFeeFor(double subtotal) {
+        return subtotal < minimumOrderValue ? deliveryFee : 0.0;
+    }
+
+    private static <T> T orPrevious(Supplier<T> parse, T previous, List<String> errors) {
+        try {
+            return parse.get();
+        } catch (RuntimeException e) {
+            errors.add(e.getMessage());
+            return previous;
+        }
+    }
+
+    private static double amount(Map<String, String> values, String key, double fallback) {
+        String raw = values.get(key);
+        if (raw == null) {
+            return fallback;
+        }
+        try {
+            double value = Double.parseDouble(raw.trim());
+            if (value >= 0 && Double.isFinite(value)) {
+                return value;
+            }
+        } catch (NumberFormatException ignored) {
+            // reported below
+        }
+        throw new RuntimeException("Invalid value for " + key + ": " + raw);
+    }
+
+    private static int minutes(Map<String, String> values, String key, int fallback) {
+        String raw = values.get(key);
+        if (raw == null) {
+            return fallback;
+        }
+        try {
+            int value = Integer.parseInt(raw.trim());
+            if (value >= 0) {
+                return value;
+            }
+        } catch (NumberFormatException ignored) {
+            // reported below
+        }
+        throw new RuntimeException("Invalid value for " + key + ": " + raw);
+    }
+}
@@ -1,13 +1,18 @@
 package com.srmiggy.service;
 
+import com.srmiggy.dto.SlotResponse;
 import com.srmiggy.model.DeliverySlot;
 import com.srmiggy.repository.DeliverySlotRepository;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 public class DeliverySlotService {
@@ -18,33 +23,75 @@ public class DeliverySlotService {
     private static final LocalTime ORDERING_START_TIME = LocalTime.of(11, 0);
     private static final LocalTime ORDERING_END_TIME = LocalTime.of(19, 0);
 
+    private volatile SlotTimetable timetable = new SlotTimetable(List.of(), ORDERING_START_TIME, ORDERING_END_TIME);
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    /**
+     * Rebuild the timetable from the active slots in the database
+     */
+    @PostConstruct
+    public void rebuildTimetable() {
+        rebuildLock.lock();
+        try {
+            timetable = new SlotTimetable(deliverySlotRepository.findByActiveTrue(), ORDERING_START_TIME, ORDERING_END_TIME);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotChanged(SlotChangedEvent event) {
+        rebuildTimetable();
+    }
+
+    /**
+     * Current snapshot of the active slots; callers that need several answers for the
+     * same instant should query one snapshot
+     */
+    public SlotTimetable getTimetable() {
+        return timetable;
+    }
+
     /**
      * Get available slots based on current time
      * Returns slots that start after the current time and before 7:00 PM
      * Returns empty list if current time is after 7:00 PM or before 11:00 AM
      */
     public List<DeliverySlot> getAvailableSlots() {
-        LocalTime now = LocalTime.now();
-        
-        // If current time is after 7:00 PM or before 11:00 AM, no slots are available
-        if (now.isAfter(ORDERING_END_TIME) || now.isBefore(ORDERING_START_TIME)) {
-            return List.of();
-        }
-        
-        // Get all active slots
-        List<DeliverySlot> allActiveSlots = deliverySlotRepository.findByActiveTrue();
-        
-        // Filter slots that start after current time
-        return allActiveSlots.stream()
-                .filter(slot -> slot.getStartTime().isAfter(now))
-                .collect(Collectors.toList());
+        return timetable.getOpenSlots(LocalTime.now());
+    }
+
+    /**
+     * Set the daily order limits of a slot (null means unlimited)
+     */
+    public SlotResponse updateCapacity(UUID slotId, Integer capacity, Integer vendorCapacity) {
+        DeliverySlot slot = deliverySlotRepository.findById(slotId)
+                .orElseThrow(() -> new RuntimeException("Delivery slot not found"));
+        slot.setCapacity(capacity);
+        slot.setVendorCapacity(vendorCapacity);
+        return toResponse(deliverySlotRepository.save(slot));
+    }
+
+    /**
+     * Response for a slot already in memory, such as one from the timetable
+     */
+    public SlotResponse toResponse(DeliverySlot slot) {
+        return new SlotResponse(slot.getId(), slot.getDisplayName(), slot.getStartTime(), slot.getEndTime(),
+                slot.getActive(), slot.getCapacity(), slot.getVendorCapacity());
     }
 
     /**
      * Check if ordering is currently allowed
      */
     public boolean isOrderingOpen() {
-        LocalTime now = LocalTime.now();
-        return !now.isBefore(ORDERING_START_TIME) && !now.isAfter(ORDERING_END_TIME);
+        return timetable.isOrderingOpen(LocalTime.now());
+    }
+
+    /**
+     * Next instant at which the available slots or the ordering window change
+     */
+    public LocalDateTime getNextChange() {
+        return timetable.getNextChange(LocalDateTime.now());
     }
 }
@@ -0,0 +1,179 @@
+package com.srmiggy.service;
+
+import com.srmiggy.dto.AvailableRider;
+import com.srmiggy.dto.DispatchCandidate;
+import com.srmiggy.model.OrderStatus;
+import com.srmiggy.model.Rider;
+import com.srmiggy.repository.OrderRepository;
+import com.srmiggy.repository.RiderRepository;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Batch rider dispatch: on each tick, READY orders are matched to available riders in one go
+ * A tick reads the waiting orders and the free riders with one query each, matches them in
+ * memory, and writes the assignments in one transaction with conditional updates, so a second
+ * instance or an admin change made since the read is never overwritten.
+ * A rider carries up to max-orders-per-rider orders of one vendor, for one slot and hostel.
+ */
+@Service
+public class DispatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(DispatchService.class);
+
+    // Orders a rider has been given but not yet delivered
+    private static final Set<OrderStatus> ON_ROUTE = EnumSet.of(OrderStatus.READY, OrderStatus.OUT_FOR_DELIVERY);
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private RiderRepository riderRepository;
+
+    @Value("${dispatch.max-orders-per-rider:4}")
+    private int maxOrdersPerRider;
+
+    // How long a part-filled batch waits for more orders to the same hostel before it goes anyway
+    @Value("${dispatch.max-wait-seconds:60}")
+    private long maxWaitSeconds;
+
+    @Scheduled(fixedDelayString = "${dispatch.interval:5000}")
+    @Transactional
+    @Timed(value = "srmiggy.dispatch", description = "Rider dispatch tick: read, match and assign", histogram = true)
+    public void dispatch() {
+        List<DispatchCandidate> waiting = orderRepository.findDispatchCandidates(
+                OrderStatus.READY, LocalDate.now().atStartOfDay());
+        if (waiting.isEmpty()) {
+            return;
+        }
+        List<AvailableRider> riders = riderRepository.findAvailable();
+        if (riders.isEmpty()) {
+            return;
+        }
+        Map<UUID, List<UUID>> plan = plan(waiting, riders, LocalDateTime.now());
+        if (!plan.isEmpty()) {
+            int assigned = assign(plan);
+            log.info("Dispatched {} of {} ready orders to {} riders", assigned, waiting.size(), plan.size());
+        }
+    }
+
+    /**
+     * Match waiting orders to riders, returning the order ids for each rider
+     * Orders are grouped by vendor, slot and hostel, earliest slot and longest waiting first.
+     * Full batches go at once; a part-filled one goes once its oldest order has waited
+     * max-wait-seconds. A vendor's own riders are used before riders shared by all vendors.
+     * Runs in memory in time linear in the number of orders and riders.
+     */
+    public Map<UUID, List<UUID>> plan(List<DispatchCandidate> waiting, List<AvailableRider> riders, LocalDateTime now) {
+        Map<UUID, ArrayDeque<UUID>> vendorRiders = new HashMap<>();
+        ArrayDeque<UUID> sharedRiders = new ArrayDeque<>();
+        for (AvailableRider rider : riders) {
+            if (rider.getVendorId() == null) {
+                sharedRiders.add(rider.getRiderId());
+            } else {
+                vendorRiders.computeIfAbsent(rider.getVendorId(), id -> new ArrayDeque<>()).add(rider.getRiderId());
+            }
+        }
+
+        // Candidates arrive earliest slot first, then longest waiting, and groups keep that order
+        Map<Route, List<DispatchCandidate>> routes = new LinkedHashMap<>();
+        for (DispatchCandidate order : waiting) {
+            Route route = new Route(order.getVendorId(), order.getSlotId(), hostelOf(order.getDeliveryAddress()));
+            routes.computeIfAbsent(route, r -> new ArrayList<>()).add(order);
+        }
+
+        LocalDateTime waitedSince = now.minusSeconds(maxWaitSeconds);
+        Map<UUID, List<UUID>> plan = new LinkedHashMap<>();
+        for (Map.Entry<Route, List<DispatchCandidate>> entry : routes.entrySet()) {
+            ArrayDeque<UUID> ownRiders = vendorRiders.get(entry.getKey().vendorId());
+            List<DispatchCandidate> orders = entry.getValue();
+            for (int from = 0; from < orders.size(); from += maxOrdersPerRider) {
+                int to = Math.min(from + maxOrdersPerRider, orders.size());
+                boolean full = to - from == maxOrdersPerRider;
+                LocalDateTime oldest = orders.get(from).getReadyAt();
+                if (!full && oldest != null && oldest.isAfter(waitedSince)) {
+                    break;
+                }
+                UUID rider = ownRiders != null && !ownRiders.isEmpty() ? ownRiders.poll() : sharedRiders.poll();
+                if (rider == null) {
+                    // Out of riders for this vendor; the rest wait for the next tick
+                    break;
+                }
+                List<UUID> batch = new ArrayList<>(to - from);
+                for (DispatchCandidate order : orders.subList(from, to)) {
+                    batch.add(order.getOrderId());
+                }
+                plan.put(rider, batch);
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Free a rider once none of the orders they were given are still to be delivered
+     */
+    public void releaseIfIdle(Rider rider) {
+        if (!orderRepository.existsByRiderIdAndStatusIn(rider.getId(), ON_ROUTE)) {
+            riderRepository.updateAvailableIf(rider.getId(), true, LocalDateTime.now());
+        }
+    }
+
+    /**
+     * Take each planned rider only if still free, then give them only those of their orders that
+     * are still READY and unassigned; a rider left with none is freed again
+     */
+    private int assign(Map<UUID, List<UUID>> plan) {
+        LocalDateTime now = LocalDateTime.now();
+        int assigned = 0;
+        for (Map.Entry<UUID, List<UUID>> entry : plan.entrySet()) {
+            UUID riderId = entry.getKey();
+            if (riderRepository.updateAvailableIf(riderId, false, now) == 0) {
+                continue;
+            }
+            int count = orderRepository.assignRiderIf(
+                    riderRepository.getReferenceById(riderId), entry.getValue(), OrderStatus.READY, now);
+            if (count == 0) {
+                riderRepository.updateAvailableIf(riderId, true, now);
+            }
+            assigned += count;
+        }
+        return assigned;
+    }
+
+    /**
+     * The hostel part of a delivery address, e.g. "hostel a" for "Hostel A, Room 101"
+     */
+    static String hostelOf(String address) {
+        if (address == null) {
+            return "";
+        }
+        int comma = address.indexOf(',');
+        String hostel = comma < 0 ? address : address.substring(0, comma);
+        return WHITESPACE.matcher(hostel.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private record Route(UUID vendorId, UUID slotId, String hostel) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.srmiggy.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Published when a row of a counted entity type is inserted (+1) or deleted (-1)
+ */
+@Data
+@AllArgsConstructor
+public class EntityCountChangedEvent {
+    private Class<?> entityType;
+    private int delta;
+}
@@ -0,0 +1,92 @@
+package com.srmiggy.service;
+
+import com.srmiggy.dto.CursorPage;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Keyset pagination on (createdAt, id), newest first
+ * Cursors are opaque to clients: base64 of the last row's createdAt and id.
+ */
+public final class KeysetPaging {
+
+    public static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+    private static final int DEFAULT_SIZE = 50;
+    private static final int MAX_SIZE = 200;
+
+    private KeysetPaging() {
+    }
+
+    public static int pageSize(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(requested, MAX_SIZE);
+    }
+
+    /**
+     * Scroll position to continue after the given cursor, or the first page when cursor is null
+     */
+    public static ScrollPosition position(String cursor) {
+        Map<String, Object> keys = decode(cursor);
+        return keys == null ? ScrollPosition.keyset() : ScrollPosition.forward(keys);
+    }
+
+    /**
+     * createdAt and id keys of the row a cursor points at, or null when cursor is null
+     */
+    public static Map<String, Object> decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", 2);
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put("createdAt", LocalDateTime.parse(parts[0]));
+            keys.put("id", UUID.fromString(parts[1]));
+            return keys;
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+
+    public static String encode(Object createdAt, Object id) {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static <T> CursorPage<T> toPage(Window<T> window) {
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            KeysetScrollPosition last = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+            nextCursor = encode(last.getKeys().get("createdAt"), last.getKeys().get("id"));
+        }
+        return new CursorPage<>(window.getContent(), nextCursor);
+    }
+
+    /**
+     * Page from rows fetched with a limit of size + 1; the extra row only signals that more exist
+     */
+    public static <T> CursorPage<T> toPage(List<T> rows, int size,
+                                           Function<T, LocalDateTime> createdAt, Function<T, UUID> id) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, size);
+        T last = items.get(size - 1);
+        return new CursorPage<>(items, encode(createdAt.apply(last), id.apply(last)));
+    }
+}
@@ -1,11 +1,12 @@
 package com.srmiggy.service;
 
-import com.srmiggy.model.User;
 import com.srmiggy.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.UUID;
+
 @Service
 public class LoyaltyService {
 
@@ -25,56 +26,52 @@ public class LoyaltyService {
     /**
      * Get user's current loyalty points
      */
-    public Double getLoyaltyPoints(String username) {
-        User user = userRepository.findByUsername(username)
+    public Double getLoyaltyPoints(UUID userId) {
+        return userRepository.findLoyaltyPointsById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
-        return user.getLoyaltyPoints();
     }
 
     /**
-     * Add loyalty points to user account
+     * Add loyalty points to user account with a single in-place increment
+     * Returns the new points balance
      */
     @Transactional
-    public void addLoyaltyPoints(String username, Double points) {
+    public Double addLoyaltyPoints(UUID userId, Double points) {
         if (points <= 0) {
-            return;
+            return getLoyaltyPoints(userId);
         }
 
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        user.setLoyaltyPoints(user.getLoyaltyPoints() + points);
-        userRepository.save(user);
+        if (userRepository.addLoyaltyPoints(userId, points) == 0) {
+            throw new RuntimeException("User not found");
+        }
+        return getLoyaltyPoints(userId);
     }
 
     /**
-     * Redeem loyalty points (deduct from user account)
-     * Returns the rupee value of points redeemed
+     * Redeem loyalty points with a guarded decrement, so two concurrent checkouts
+     * cannot spend the same points
+     * Returns the new points balance
      */
     @Transactional
-    public Double redeemLoyaltyPoints(String username, Double pointsToRedeem) {
+    public Double redeemLoyaltyPoints(UUID userId, Double pointsToRedeem) {
         if (pointsToRedeem <= 0) {
             throw new RuntimeException("Points to redeem must be greater than zero");
         }
 
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        if (user.getLoyaltyPoints() < pointsToRedeem) {
+        if (userRepository.deductLoyaltyPoints(userId, pointsToRedeem) == 0) {
+            if (!userRepository.existsById(userId)) {
+                throw new RuntimeException("User not found");
+            }
             throw new RuntimeException("Insufficient loyalty points");
         }
-
-        user.setLoyaltyPoints(user.getLoyaltyPoints() - pointsToRedeem);
-        userRepository.save(user);
-
-        return pointsToRedeem * POINTS_TO_RUPEES;
+        return getLoyaltyPoints(userId);
     }
 
     /**
      * Get the maximum points that can be redeemed (user's current balance)
      */
-    public Double getRedeemablePoints(String username) {
-        return getLoyaltyPoints(username);
+    public Double getRedeemablePoints(UUID userId) {
+        return getLoyaltyPoints(userId);
     }
 
     /**
@@ -0,0 +1,94 @@
+package com.srmiggy.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.srmiggy.dto.MenuItemResponse;
+import com.srmiggy.repository.MenuItemRepository;
+import com.srmiggy.repository.VendorRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class MenuCacheService {
+
+    @Autowired
+    private VendorRepository vendorRepository;
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final Map<UUID, CachedMenu> menus = new ConcurrentHashMap<>();
+
+    // Bumped on every eviction so a render that raced with a change is never kept
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Get the serialized menu of available items for a vendor
+     * Returns empty if the vendor does not exist
+     */
+    public Optional<CachedMenu> getMenu(UUID vendorId) {
+        CachedMenu cached = menus.get(vendorId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long renderGeneration = generation.get();
+        Optional<CachedMenu> rendered = render(vendorId);
+        rendered.ifPresent(menu -> {
+            menus.put(vendorId, menu);
+            if (generation.get() != renderGeneration) {
+                menus.remove(vendorId, menu);
+            }
+        });
+        return rendered;
+    }
+
+    /**
+     * Drop the cached menu once the change that touched it has committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        evict(event.getVendorId());
+    }
+
+    public void evict(UUID vendorId) {
+        generation.incrementAndGet();
+        menus.remove(vendorId);
+    }
+
+    private Optional<CachedMenu> render(UUID vendorId) {
+        if (!vendorRepository.existsById(vendorId)) {
+            return Optional.empty();
+        }
+
+        List<MenuItemResponse> items = menuItemRepository.findAvailableResponsesByVendorId(vendorId);
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(items);
+            String etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+            return Optional.of(new CachedMenu(body, etag));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize menu", e);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class CachedMenu {
+        private final byte[] body;
+        private final String etag;
+    }
+}
@@ -0,0 +1,15 @@
+package com.srmiggy.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.UUID;
+
+/**
+ * Published when a vendor or one of its menu items is saved or deleted
+ */
+@Data
+@AllArgsConstructor
+public class MenuChangedEvent {
+    private UUID vendorId;
+}
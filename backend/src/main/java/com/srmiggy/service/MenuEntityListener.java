@@ -0,0 +1,31 @@
+package com.srmiggy.service;
+
+import com.srmiggy.model.MenuItem;
+import com.srmiggy.model.Vendor;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener on Vendor and MenuItem that turns every write into a MenuChangedEvent
+ */
+@Component
+public class MenuEntityListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof MenuItem menuItem && menuItem.getVendor() != null) {
+            eventPublisher.publishEvent(new MenuChangedEvent(menuItem.getVendor().getId()));
+        } else if (entity instanceof Vendor vendor) {
+            eventPublisher.publishEvent(new MenuChangedEvent(vendor.getId()));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.srmiggy.service;
+
+import com.srmiggy.model.Order;
+import com.srmiggy.model.OrderStatus;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA listener on Order that publishes an OrderStatusChangedEvent for every status
+ * transition, whichever service made it
+ */
+@Component
+public class OrderEntityListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostLoad
+    public void onLoad(Order order) {
+        order.setPersistedStatus(order.getStatus());
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Order order) {
+        if (order.getStatus() == order.getPersistedStatus()) {
+            return;
+        }
+        publish(order, order.getPersistedStatus(), order.getStatus(), order.getUpdatedAt());
+        order.setPersistedStatus(order.getStatus());
+    }
+
+    /**
+     * Publish a transition made by a bulk update, which bypasses the entity callbacks
+     */
+    public void publish(Order order, OrderStatus previousStatus, OrderStatus status, LocalDateTime updatedAt) {
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(
+                order.getId(),
+                order.getCustomer().getId(),
+                order.getVendor().getId(),
+                order.getDeliverySlot().getId(),
+                previousStatus,
+                status,
+                order.getTotal(),
+                order.getCreatedAt(),
+                updatedAt
+        ));
+    }
+}
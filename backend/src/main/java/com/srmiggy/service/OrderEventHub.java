@@ -0,0 +1,190 @@
+package com.srmiggy.service;
+
+import com.srmiggy.dto.OrderStatusUpdate;
+import com.srmiggy.model.OrderStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Fans committed order status changes out to server-sent event streams
+ * An idle stream is an async servlet request, so it holds a socket but no thread.
+ * Writes run on the application task executor (virtual threads in the virtual
+ * profile), in order per stream, so a slow client never holds up the transaction that
+ * changed the order.
+ */
+@Service
+public class OrderEventHub {
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private TaskExecutor taskExecutor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${orders.events.timeout:600000}")
+    private long timeoutMillis;
+
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger open = new AtomicInteger();
+
+    @PostConstruct
+    public void registerMetrics() {
+        Gauge.builder("srmiggy.orders.events.streams", open, AtomicInteger::get)
+                .description("Open order status event streams")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Open a stream for an order. The stream is registered before current is called, so a
+     * change committed while the current status is read is not lost; anything older than
+     * what current returns is skipped. If current throws, nothing is registered.
+     */
+    public SseEmitter subscribe(UUID orderId, Supplier<OrderStatusUpdate> current) {
+        Subscriber subscriber = new Subscriber(orderId);
+        subscribers.computeIfAbsent(orderId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        open.incrementAndGet();
+
+        try {
+            subscriber.start(current.get());
+        } catch (RuntimeException e) {
+            remove(subscriber);
+            throw e;
+        }
+        return subscriber.stream.getEmitter();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        Set<Subscriber> listening = subscribers.get(event.getOrderId());
+        if (listening == null) {
+            return;
+        }
+        OrderStatusUpdate update = new OrderStatusUpdate(event.getOrderId(), event.getStatus(), event.getUpdatedAt());
+        for (Subscriber subscriber : listening) {
+            subscriber.offer(update);
+        }
+    }
+
+    /**
+     * Comment line on every open stream so proxies and load balancers keep idle streams open
+     */
+    @Scheduled(fixedDelayString = "${orders.events.heartbeat-interval:15000}")
+    public void heartbeat() {
+        for (Set<Subscriber> listening : subscribers.values()) {
+            for (Subscriber subscriber : listening) {
+                subscriber.stream.heartbeat();
+            }
+        }
+    }
+
+    /**
+     * End every stream when the application shuts down, so open streams do not hold up
+     * shutdown; clients reconnect to another instance
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void closeAll() {
+        for (Set<Subscriber> listening : subscribers.values()) {
+            for (Subscriber subscriber : listening) {
+                subscriber.stream.complete();
+            }
+        }
+    }
+
+    public int getOpenStreams() {
+        return open.get();
+    }
+
+    private void remove(Subscriber subscriber) {
+        Set<Subscriber> listening = subscribers.get(subscriber.orderId);
+        if (listening != null && listening.remove(subscriber)) {
+            open.decrementAndGet();
+            if (listening.isEmpty()) {
+                subscribers.remove(subscriber.orderId, listening);
+            }
+        }
+    }
+
+    private static boolean isFinal(OrderStatus status) {
+        return status == OrderStatus.DELIVERED || status == OrderStatus.CANCELLED;
+    }
+
+    private final class Subscriber {
+        private final UUID orderId;
+        private final SseStream stream;
+        private final ReentrantLock lock = new ReentrantLock();
+
+        // Updates that arrive before start are held here; null once started
+        private List<OrderStatusUpdate> early = new ArrayList<>();
+        private LocalDateTime lastQueued;
+
+        Subscriber(UUID orderId) {
+            this.orderId = orderId;
+            this.stream = new SseStream(timeoutMillis, taskExecutor, closed -> remove(this));
+        }
+
+        void start(OrderStatusUpdate current) {
+            lock.lock();
+            try {
+                queue(current);
+                for (OrderStatusUpdate update : early) {
+                    queue(update);
+                }
+                early = null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void offer(OrderStatusUpdate update) {
+            lock.lock();
+            try {
+                if (early != null) {
+                    early.add(update);
+                } else {
+                    queue(update);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void queue(OrderStatusUpdate update) {
+            if (lastQueued != null && update.getUpdatedAt() != null && !update.getUpdatedAt().isAfter(lastQueued)) {
+                return;
+            }
+            lastQueued = update.getUpdatedAt();
+            SseEmitter.SseEventBuilder event = SseEmitter.event()
+                    .name("status")
+                    .id(String.valueOf(update.getUpdatedAt()))
+                    .data(update);
+            if (isFinal(update.getStatus())) {
+                stream.sendLast(event);
+            } else {
+                stream.send(event);
+            }
+        }
+    }
+}
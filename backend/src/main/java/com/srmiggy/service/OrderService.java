@@ -1,24 +1,49 @@
 package com.srmiggy.service;
 
-import com.srmiggy.dto.CartItemRequest;
+import com.srmiggy.dto.AdminOrderRow;
 import com.srmiggy.dto.CreateOrderRequest;
+import com.srmiggy.dto.CursorPage;
+import com.srmiggy.dto.OrderLine;
+import com.srmiggy.dto.OrderResponse;
+import com.srmiggy.dto.OrderStatusUpdate;
+import com.srmiggy.dto.OrderSummary;
 import com.srmiggy.model.*;
 import com.srmiggy.repository.*;
+import com.srmiggy.security.AuthenticatedUser;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 public class OrderService {
 
+    // Orders a kitchen still has to cook or hand over to a rider
+    public static final Set<OrderStatus> KITCHEN_STATUSES =
+            EnumSet.of(OrderStatus.CONFIRMED, OrderStatus.PREPARING, OrderStatus.READY);
+
     @Autowired
     private OrderRepository orderRepository;
 
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private DispatchService dispatchService;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -26,13 +51,13 @@ public class OrderService {
     private VendorRepository vendorRepository;
 
     @Autowired
-    private MenuItemRepository menuItemRepository;
+    private PricingService pricingService;
 
     @Autowired
     private DeliverySlotRepository deliverySlotRepository;
 
     @Autowired
-    private SettingsRepository settingsRepository;
+    private SettingsService settingsService;
 
     @Autowired
     private LoyaltyService loyaltyService;
@@ -40,14 +65,22 @@ public class OrderService {
     @Autowired
     private WalletService walletService;
 
-    private static final Double MINIMUM_ORDER_VALUE = 100.0;
-    private static final Double PLATFORM_FEE = 2.0;
-    private static final Double DELIVERY_FEE = 10.0;
-    private static final Integer CUTOFF_MINUTES = 50;
+    @Autowired
+    private SlotCapacityService slotCapacityService;
+
+    @Autowired
+    private OrderEntityListener orderEntityListener;
+
+    @Value("${orders.payment-timeout-minutes:15}")
+    private long paymentTimeoutMinutes;
 
     @Transactional
-    public Order createOrder(CreateOrderRequest request, String username) {
-        User customer = userRepository.findByUsername(username)
+    @Timed(value = "srmiggy.orders.create", description = "Checkout, from request to saved order", histogram = true)
+    public Order createOrder(CreateOrderRequest request, UUID customerId) {
+        // One snapshot for the whole checkout, so a concurrent settings change cannot mix fees
+        CheckoutSettings settings = settingsService.getCheckoutSettings();
+
+        User customer = userRepository.findById(customerId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
         Vendor vendor = vendorRepository.findById(request.getVendorId())
@@ -58,9 +91,10 @@ public class OrderService {
 
         // Validate slot timing
         LocalTime now = LocalTime.now();
-        LocalTime cutoffTime = slot.getEndTime().minusMinutes(CUTOFF_MINUTES);
+        LocalTime cutoffTime = slot.getEndTime().minusMinutes(settings.getOrderCutoffMinutes());
         if (now.isAfter(cutoffTime)) {
-            throw new RuntimeException("Order cannot be placed. Slot closes in less than 50 minutes.");
+            throw new RuntimeException("Order cannot be placed. Slot closes in less than "
+                    + settings.getOrderCutoffMinutes() + " minutes.");
         }
 
         Order order = new Order();
@@ -71,43 +105,43 @@ public class OrderService {
         order.setCustomerPhone(request.getCustomerPhone());
         order.setStatus(OrderStatus.PENDING);
 
-        double subtotal = 0.0;
-        for (CartItemRequest itemRequest : request.getItems()) {
-            MenuItem menuItem = menuItemRepository.findById(itemRequest.getMenuItemId())
-                    .orElseThrow(() -> new RuntimeException("Menu item not found"));
-
-            if (!menuItem.getAvailable()) {
-                throw new RuntimeException("Menu item " + menuItem.getName() + " is not available");
-            }
-
+        // Price the whole cart with a single menu item query
+        PricedCart pricedCart = pricingService.priceCart(vendor.getId(), request.getItems());
+        for (PricedCart.Line line : pricedCart.getLines()) {
             OrderItem orderItem = new OrderItem();
             orderItem.setOrder(order);
-            orderItem.setMenuItem(menuItem);
-            orderItem.setQuantity(itemRequest.getQuantity());
-            orderItem.setPrice(menuItem.getPrice());
-            orderItem.setSubtotal(menuItem.getPrice() * itemRequest.getQuantity());
-
+            orderItem.setMenuItem(line.getMenuItem());
+            orderItem.setQuantity(line.getQuantity());
+            orderItem.setPrice(line.getPrice());
+            orderItem.setSubtotal(line.getSubtotal());
             order.getItems().add(orderItem);
-            subtotal += orderItem.getSubtotal();
         }
+        double subtotal = pricedCart.getSubtotal();
 
-        // Calculate delivery fee - apply ₹10 if subtotal < 100
-        double deliveryFee = subtotal < 100.0 ? DELIVERY_FEE : 0.0;
+        // Hold a seat in the slot; released again if this transaction rolls back
+        slotCapacityService.reserve(slot, vendor.getId());
+
+        // Delivery fee applies below the minimum order value
+        double deliveryFee = settings.deliveryFeeFor(subtotal);
+        double platformFee = settings.getPlatformFee();
         
         order.setSubtotal(subtotal);
         order.setDeliveryFee(deliveryFee);
-        order.setPlatformFee(PLATFORM_FEE);
+        order.setPlatformFee(platformFee);
         
-        double total = subtotal + deliveryFee + PLATFORM_FEE;
+        double total = subtotal + deliveryFee + platformFee;
         
         // Handle loyalty points redemption
         double loyaltyDiscount = 0.0;
         if (request.getUseLoyaltyPoints() != null && request.getUseLoyaltyPoints()) {
-            Double availablePoints = loyaltyService.getLoyaltyPoints(username);
+            // The customer row was read at the start of this request; the guarded
+            // decrement fails the checkout if another one spent the points meanwhile
+            Double availablePoints = customer.getLoyaltyPoints();
             if (availablePoints > 0) {
                 // Use all available points (capped at total amount)
                 double pointsToUse = Math.min(availablePoints, total);
-                loyaltyDiscount = loyaltyService.redeemLoyaltyPoints(username, pointsToUse);
+                loyaltyService.redeemLoyaltyPoints(customer.getId(), pointsToUse);
+                loyaltyDiscount = loyaltyService.pointsToRupees(pointsToUse);
                 order.setLoyaltyPointsUsed(pointsToUse);
             }
         }
@@ -124,12 +158,12 @@ public class OrderService {
         String paymentMethod = request.getPaymentMethod();
         if (paymentMethod != null && paymentMethod.equalsIgnoreCase("wallet")) {
             // For wallet payment, deduct from wallet and mark order as CONFIRMED
-            walletService.deductMoney(username, total, "Payment for Order");
+            walletService.deductMoney(customerId, total, "Payment for Order");
             order.setStatus(OrderStatus.CONFIRMED);
             
             // Award loyalty points immediately for wallet payment
             if (pointsEarned > 0) {
-                loyaltyService.addLoyaltyPoints(username, pointsEarned);
+                loyaltyService.addLoyaltyPoints(customer.getId(), pointsEarned);
             }
         }
         // For card, upi, cod, or other methods, order stays PENDING until payment is processed
@@ -137,43 +171,178 @@ public class OrderService {
         return orderRepository.save(order);
     }
 
-    public List<Order> getCustomerOrders(String username) {
-        User customer = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        return orderRepository.findByCustomerOrderByCreatedAtDesc(customer);
+    /**
+     * Slim order history for a customer, newest first, one page per call
+     */
+    public CursorPage<OrderSummary> getCustomerOrders(UUID customerId, String cursor, Integer size) {
+        int pageSize = KeysetPaging.pageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        Map<String, Object> after = KeysetPaging.decode(cursor);
+        List<OrderSummary> rows = after == null
+                ? orderRepository.findSummariesByCustomerId(customerId, limit)
+                : orderRepository.findSummariesByCustomerIdAfter(customerId,
+                        (LocalDateTime) after.get("createdAt"), (UUID) after.get("id"), limit);
+        return KeysetPaging.toPage(rows, pageSize, OrderSummary::getCreatedAt, OrderSummary::getId);
     }
 
-    public List<Order> getVendorOrders(UUID vendorId) {
-        Vendor vendor = vendorRepository.findById(vendorId)
-                .orElseThrow(() -> new RuntimeException("Vendor not found"));
-        return orderRepository.findByVendor(vendor);
+    /**
+     * A vendor's kitchen queue for a day: orders still to cook or hand over, oldest first,
+     * with customer, slot and lines loaded in the same query
+     */
+    public List<Order> getVendorOrders(UUID vendorId, LocalDate date) {
+        if (!vendorRepository.existsById(vendorId)) {
+            throw new RuntimeException("Vendor not found");
+        }
+        return orderRepository.findQueue(vendorId, date.atStartOfDay(), date.plusDays(1).atStartOfDay(),
+                KITCHEN_STATUSES);
     }
 
-    public Order getOrderById(UUID orderId, String username) {
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new RuntimeException("Order not found"));
+    /**
+     * Order detail for its customer, the vendor's owner or an admin
+     * Read as two projections, so no entity graph is loaded or serialized.
+     */
+    public OrderResponse getOrderById(UUID orderId, AuthenticatedUser user) {
+        OrderResponse order = getAccessibleOrder(orderId, user);
+        order.setItems(orderItemRepository.findLinesByOrderId(orderId));
+        return order;
+    }
 
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    /**
+     * Current status of an order, with the same access rules as getOrderById
+     */
+    public OrderStatusUpdate getOrderStatus(UUID orderId, AuthenticatedUser user) {
+        OrderResponse order = getAccessibleOrder(orderId, user);
+        return new OrderStatusUpdate(order.getId(), order.getStatus(), order.getUpdatedAt());
+    }
+
+    private OrderResponse getAccessibleOrder(UUID orderId, AuthenticatedUser user) {
+        OrderResponse order = orderRepository.findResponseById(orderId)
+                .orElseThrow(() -> new RuntimeException("Order not found"));
 
         // Check if user has access to this order
-        if (!order.getCustomer().getId().equals(user.getId()) && 
+        if (!order.getCustomerId().equals(user.getId()) &&
             user.getRole() != UserRole.ADMIN &&
-            (user.getRole() != UserRole.VENDOR || !order.getVendor().getOwner().getId().equals(user.getId()))) {
+            (user.getRole() != UserRole.VENDOR || !user.getId().equals(order.getVendorOwnerId()))) {
             throw new RuntimeException("Access denied");
         }
-
         return order;
     }
 
-    public List<Order> getAllOrders() {
-        return orderRepository.findAll();
+    /**
+     * Keyset-paginated order listing for admins, newest first, with optional filters
+     * Dates are inclusive calendar days on createdAt.
+     */
+    public CursorPage<AdminOrderRow> getAllOrders(String cursor, Integer size, OrderStatus status, UUID vendorId,
+                                          LocalDate from, LocalDate to) {
+        Specification<Order> filter = Specification.where(OrderSpecifications.hasStatus(status))
+                .and(OrderSpecifications.hasVendor(vendorId))
+                .and(OrderSpecifications.createdFrom(from != null ? from.atStartOfDay() : null))
+                .and(OrderSpecifications.createdBefore(to != null ? to.plusDays(1).atStartOfDay() : null))
+                .and(OrderSpecifications.fetchSummaryGraph());
+
+        return KeysetPaging.toPage(orderRepository.findBy(filter, query -> query
+                .sortBy(KeysetPaging.NEWEST_FIRST)
+                .limit(KeysetPaging.pageSize(size))
+                .scroll(KeysetPaging.position(cursor)))
+                .map(this::toAdminRow));
     }
 
-    public Order updateOrderStatus(UUID orderId, OrderStatus status) {
+    /**
+     * Response for an order already in memory, such as one just created
+     */
+    public OrderResponse toResponse(Order order) {
+        Vendor vendor = order.getVendor();
+        DeliverySlot slot = order.getDeliverySlot();
+        OrderResponse response = new OrderResponse(order.getId(), order.getCustomer().getId(),
+                vendor.getOwner() != null ? vendor.getOwner().getId() : null, vendor.getId(), vendor.getName(),
+                slot.getId(), slot.getDisplayName(), order.getStatus(), order.getDeliveryAddress(),
+                order.getCustomerPhone(), order.getSubtotal(), order.getDeliveryFee(), order.getPlatformFee(),
+                order.getLoyaltyPointsUsed(), order.getLoyaltyPointsEarned(), order.getTotal(),
+                order.getCreatedAt(), order.getUpdatedAt());
+        for (OrderItem item : order.getItems()) {
+            response.getItems().add(new OrderLine(item.getMenuItem().getId(), item.getMenuItem().getName(),
+                    item.getQuantity(), item.getPrice(), item.getSubtotal()));
+        }
+        return response;
+    }
+
+    public AdminOrderRow getAdminRow(UUID orderId) {
+        return orderRepository.findAdminRowById(orderId)
+                .orElseThrow(() -> new RuntimeException("Order not found"));
+    }
+
+    private AdminOrderRow toAdminRow(Order order) {
+        return new AdminOrderRow(order.getId(), order.getCustomer().getFullName(), order.getCustomerPhone(),
+                order.getVendor().getName(), order.getDeliverySlot().getDisplayName(),
+                order.getTotal(), order.getStatus(), order.getCreatedAt());
+    }
+
+    /**
+     * Loads only the order row; the slot and vendor are referenced by id
+     * Fails if the order changed status since it was read, rather than overwrite that change.
+     * A rider whose last order is delivered or cancelled is freed for the next dispatch.
+     */
+    @Transactional
+    public void updateOrderStatus(UUID orderId, OrderStatus status) {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new RuntimeException("Order not found"));
-        order.setStatus(status);
-        return orderRepository.save(order);
+        OrderStatus previous = order.getStatus();
+        if (previous == status) {
+            return;
+        }
+        if (!changeStatus(order, previous, status)) {
+            throw new RuntimeException("Order status has changed, please retry");
+        }
+
+        if (status == OrderStatus.CANCELLED) {
+            slotCapacityService.release(order);
+            refundLoyaltyPoints(order);
+        } else if (previous == OrderStatus.CANCELLED) {
+            slotCapacityService.restore(order);
+            if (order.getLoyaltyPointsUsed() > 0) {
+                loyaltyService.redeemLoyaltyPoints(order.getCustomer().getId(), order.getLoyaltyPointsUsed());
+            }
+        }
+        if ((status == OrderStatus.DELIVERED || status == OrderStatus.CANCELLED) && order.getRider() != null) {
+            dispatchService.releaseIfIdle(order.getRider());
+        }
+    }
+
+    /**
+     * Move an order from one status to another with a conditional update, so a concurrent
+     * change (a payment, an expiry, an admin) is never overwritten by a stale full-row write
+     * The loaded order is left as read; returns false if it was no longer in the from status.
+     */
+    @Transactional
+    public boolean changeStatus(Order order, OrderStatus from, OrderStatus to) {
+        LocalDateTime now = LocalDateTime.now();
+        if (orderRepository.updateStatusIf(order.getId(), from, to, now) == 0) {
+            return false;
+        }
+        orderEntityListener.publish(order, from, to, now);
+        return true;
+    }
+
+    /**
+     * Cancel orders still awaiting payment after the payment timeout, freeing their slot seats
+     * and giving back the loyalty points spent on them
+     */
+    @Scheduled(fixedDelayString = "${orders.payment-expiry-check-interval:60000}")
+    @Transactional
+    public void expireUnpaidOrders() {
+        LocalDateTime deadline = LocalDateTime.now().minusMinutes(paymentTimeoutMinutes);
+        for (Order order : orderRepository.findByStatusAndCreatedAtBefore(OrderStatus.PENDING, deadline)) {
+            // Skipped if the payment went through after the read
+            if (changeStatus(order, OrderStatus.PENDING, OrderStatus.CANCELLED)) {
+                slotCapacityService.release(order);
+                refundLoyaltyPoints(order);
+            }
+        }
+    }
+
+    private void refundLoyaltyPoints(Order order) {
+        if (order.getLoyaltyPointsUsed() > 0) {
+            loyaltyService.addLoyaltyPoints(order.getCustomer().getId(), order.getLoyaltyPointsUsed());
+        }
     }
 }
@@ -0,0 +1,26 @@
+package com.srmiggy.service;
+
+import com.srmiggy.model.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Published when an order is created or its status changes
+ * previousStatus is null for a newly created order; updatedAt orders the changes to one order.
+ */
+@Data
+@AllArgsConstructor
+public class OrderStatusChangedEvent {
+    private UUID orderId;
+    private UUID customerId;
+    private UUID vendorId;
+    private UUID slotId;
+    private OrderStatus previousStatus;
+    private OrderStatus status;
+    private Double total;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -1,6 +1,7 @@
 package com.srmiggy.service;
 
 import com.srmiggy.dto.PaymentOrderResponse;
+import com.srmiggy.dto.PaymentResponse;
 import com.srmiggy.dto.PaymentVerifyRequest;
 import com.srmiggy.model.Order;
 import com.srmiggy.model.OrderStatus;
@@ -8,6 +9,7 @@ import com.srmiggy.model.PaymentStatus;
 import com.srmiggy.model.PaymentTransaction;
 import com.srmiggy.repository.OrderRepository;
 import com.srmiggy.repository.PaymentTransactionRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.UUID;
 
 @Service
+@Timed(value = "srmiggy.payments", description = "Payment operations, tagged by method", histogram = true)
 public class PaymentService {
 
     @Autowired
@@ -29,6 +32,9 @@ public class PaymentService {
     @Autowired
     private LoyaltyService loyaltyService;
 
+    @Autowired
+    private OrderService orderService;
+
     @Transactional
     public PaymentOrderResponse createPaymentOrder(UUID orderId) {
         Order order = orderRepository.findById(orderId)
@@ -60,41 +66,45 @@ public class PaymentService {
     }
 
     @Transactional
-    public PaymentTransaction verifyPayment(PaymentVerifyRequest request) {
+    public PaymentResponse verifyPayment(PaymentVerifyRequest request) {
         PaymentTransaction transaction = paymentTransactionRepository.findByProviderOrderId(request.getProviderOrderId())
                 .orElseThrow(() -> new RuntimeException("Payment transaction not found"));
 
+        if (transaction.getOrder().getStatus() != OrderStatus.PENDING) {
+            throw new RuntimeException("Order is not in pending state");
+        }
+
         // Mock payment verification - in real scenario, verify signature
         // For mock provider, we'll accept any payment
         transaction.setProviderPaymentId(request.getProviderPaymentId());
         transaction.setProviderSignature(request.getProviderSignature());
         transaction.setStatus(PaymentStatus.SUCCESS);
 
-        // Update order status
+        // Update order status, unless it expired after the check above
         Order order = transaction.getOrder();
-        order.setStatus(OrderStatus.CONFIRMED);
-        orderRepository.save(order);
+        confirm(order);
 
         // Award loyalty points to customer
         if (order.getLoyaltyPointsEarned() > 0) {
             loyaltyService.addLoyaltyPoints(
-                order.getCustomer().getUsername(), 
+                order.getCustomer().getId(),
                 order.getLoyaltyPointsEarned()
             );
         }
 
-        return paymentTransactionRepository.save(transaction);
+        return toResponse(paymentTransactionRepository.save(transaction));
     }
 
-    public PaymentTransaction getPaymentByOrderId(UUID orderId) {
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new RuntimeException("Order not found"));
-        return paymentTransactionRepository.findByOrder(order)
+    public PaymentResponse getPaymentByOrderId(UUID orderId) {
+        if (!orderRepository.existsById(orderId)) {
+            throw new RuntimeException("Order not found");
+        }
+        return paymentTransactionRepository.findResponseByOrderId(orderId)
                 .orElse(null);
     }
 
     @Transactional
-    public PaymentTransaction payWithWallet(UUID orderId, String username) {
+    public PaymentResponse payWithWallet(UUID orderId, UUID userId) {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new RuntimeException("Order not found"));
 
@@ -103,7 +113,7 @@ public class PaymentService {
         }
 
         // Deduct money from wallet
-        walletService.deductMoney(username, order.getTotal(), "Payment for Order #" + orderId);
+        walletService.deductMoney(userId, order.getTotal(), "Payment for Order #" + orderId);
 
         // Create payment transaction
         PaymentTransaction transaction = new PaymentTransaction();
@@ -114,20 +124,19 @@ public class PaymentService {
         transaction.setProviderOrderId("WALLET_" + UUID.randomUUID().toString());
         transaction.setProviderPaymentId("WALLET_PAY_" + orderId);
 
-        // Update order status
-        order.setStatus(OrderStatus.CONFIRMED);
-        orderRepository.save(order);
+        // Update order status, unless it expired after the check above
+        confirm(order);
 
         // Award loyalty points to customer
         if (order.getLoyaltyPointsEarned() > 0) {
-            loyaltyService.addLoyaltyPoints(username, order.getLoyaltyPointsEarned());
+            loyaltyService.addLoyaltyPoints(order.getCustomer().getId(), order.getLoyaltyPointsEarned());
         }
 
-        return paymentTransactionRepository.save(transaction);
+        return toResponse(paymentTransactionRepository.save(transaction));
     }
 
     @Transactional
-    public PaymentTransaction confirmCODPayment(UUID orderId, String username) {
+    public PaymentResponse confirmCODPayment(UUID orderId, UUID userId) {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new RuntimeException("Order not found"));
 
@@ -136,7 +145,7 @@ public class PaymentService {
         }
 
         // Verify the order belongs to the user
-        if (!order.getCustomer().getUsername().equals(username)) {
+        if (!order.getCustomer().getId().equals(userId)) {
             throw new RuntimeException("Unauthorized access to order");
         }
 
@@ -149,15 +158,26 @@ public class PaymentService {
         transaction.setProviderOrderId("COD_" + UUID.randomUUID().toString());
         transaction.setProviderPaymentId("COD_PAY_" + orderId);
 
-        // Update order status
-        order.setStatus(OrderStatus.CONFIRMED);
-        orderRepository.save(order);
+        // Update order status, unless it expired after the check above
+        confirm(order);
 
         // Award loyalty points to customer
         if (order.getLoyaltyPointsEarned() > 0) {
-            loyaltyService.addLoyaltyPoints(username, order.getLoyaltyPointsEarned());
+            loyaltyService.addLoyaltyPoints(order.getCustomer().getId(), order.getLoyaltyPointsEarned());
         }
 
-        return paymentTransactionRepository.save(transaction);
+        return toResponse(paymentTransactionRepository.save(transaction));
+    }
+
+    private void confirm(Order order) {
+        if (!orderService.changeStatus(order, OrderStatus.PENDING, OrderStatus.CONFIRMED)) {
+            throw new RuntimeException("Order is not in pending state");
+        }
+    }
+
+    private PaymentResponse toResponse(PaymentTransaction transaction) {
+        return new PaymentResponse(transaction.getId(), transaction.getOrder().getId(), transaction.getAmount(),
+                transaction.getStatus(), transaction.getProvider(), transaction.getProviderOrderId(),
+                transaction.getProviderPaymentId(), transaction.getCreatedAt());
     }
 }
@@ -0,0 +1,29 @@
+package com.srmiggy.service;
+
+import com.srmiggy.model.MenuItem;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Result of pricing a cart: one line per requested item plus the cart subtotal
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PricedCart {
+    private List<Line> lines;
+    private Double subtotal;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Line {
+        private MenuItem menuItem;
+        private Integer quantity;
+        private Double price;
+        private Double subtotal;
+    }
+}
@@ -0,0 +1,71 @@
+package com.srmiggy.service;
+
+import com.srmiggy.dto.CartItemRequest;
+import com.srmiggy.model.MenuItem;
+import com.srmiggy.repository.MenuItemRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class PricingService {
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    /**
+     * Price a cart for a single vendor
+     * Loads every menu item in the cart with one query, then checks that each item
+     * exists, belongs to the vendor and is available
+     */
+    public PricedCart priceCart(UUID vendorId, List<CartItemRequest> items) {
+        if (items == null || items.isEmpty()) {
+            throw new RuntimeException("Cart is empty");
+        }
+
+        Set<UUID> menuItemIds = new HashSet<>();
+        for (CartItemRequest itemRequest : items) {
+            if (itemRequest.getMenuItemId() == null) {
+                throw new RuntimeException("Menu item not found");
+            }
+            if (itemRequest.getQuantity() == null || itemRequest.getQuantity() <= 0) {
+                throw new RuntimeException("Quantity must be greater than zero");
+            }
+            menuItemIds.add(itemRequest.getMenuItemId());
+        }
+
+        Map<UUID, MenuItem> menuItems = menuItemRepository.findByIdIn(menuItemIds).stream()
+                .collect(Collectors.toMap(MenuItem::getId, Function.identity()));
+
+        List<PricedCart.Line> lines = new ArrayList<>(items.size());
+        double subtotal = 0.0;
+        for (CartItemRequest itemRequest : items) {
+            MenuItem menuItem = menuItems.get(itemRequest.getMenuItemId());
+            if (menuItem == null) {
+                throw new RuntimeException("Menu item not found");
+            }
+
+            if (!menuItem.getVendor().getId().equals(vendorId)) {
+                throw new RuntimeException("Menu item " + menuItem.getName() + " does not belong to this vendor");
+            }
+
+            if (!menuItem.getAvailable()) {
+                throw new RuntimeException("Menu item " + menuItem.getName() + " is not available");
+            }
+
+            double lineSubtotal = menuItem.getPrice() * itemRequest.getQuantity();
+            lines.add(new PricedCart.Line(menuItem, itemRequest.getQuantity(), menuItem.getPrice(), lineSubtotal));
+            subtotal += lineSubtotal;
+        }
+
+        return new PricedCart(lines, subtotal);
+    }
+}
@@ -0,0 +1,13 @@
+package com.srmiggy.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Published when a settings row is saved or deleted
+ */
+@Data
+@AllArgsConstructor
+public class SettingsChangedEvent {
+    private String settingKey;
+}
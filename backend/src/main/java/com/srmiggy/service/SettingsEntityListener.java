@@ -0,0 +1,26 @@
+package com.srmiggy.service;
+
+import com.srmiggy.model.Settings;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener on Settings that turns every write into a SettingsChangedEvent
+ */
+@Component
+public class SettingsEntityListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Settings settings) {
+        eventPublisher.publishEvent(new SettingsChangedEvent(settings.getSettingKey()));
+    }
+}
@@ -0,0 +1,93 @@
+package com.srmiggy.service;
+
+import com.srmiggy.model.Settings;
+import com.srmiggy.repository.SettingsRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Holds the checkout settings in memory so checkout never reads the settings table
+ * The snapshot is rebuilt and swapped whenever a setting is saved through JPA, and
+ * periodically to pick up changes made by other instances or directly in the database.
+ */
+@Service
+public class SettingsService {
+
+    private static final Logger log = LoggerFactory.getLogger(SettingsService.class);
+
+    @Autowired
+    private SettingsRepository settingsRepository;
+
+    private volatile CheckoutSettings checkoutSettings = CheckoutSettings.DEFAULTS;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    /**
+     * Reload the snapshot from the settings table; a stored value that is invalid keeps
+     * its current value while the other settings still update
+     */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${settings.refresh-interval:30000}", initialDelayString = "${settings.refresh-interval:30000}")
+    public void rebuildSnapshot() {
+        rebuildLock.lock();
+        try {
+            Map<String, String> values = new HashMap<>();
+            for (Settings setting : settingsRepository.findAll()) {
+                values.put(setting.getSettingKey(), setting.getSettingValue());
+            }
+            List<String> errors = new ArrayList<>();
+            checkoutSettings = CheckoutSettings.from(values, checkoutSettings, errors);
+            for (String error : errors) {
+                log.warn("Keeping previous checkout setting: {}", error);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Keeping previous checkout settings: {}", e.getMessage());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSettingsChanged(SettingsChangedEvent event) {
+        rebuildSnapshot();
+    }
+
+    /**
+     * Current snapshot; read it once per checkout so one order never mixes two versions
+     */
+    public CheckoutSettings getCheckoutSettings() {
+        return checkoutSettings;
+    }
+
+    /**
+     * Change a checkout setting; the new snapshot is in effect once this commits
+     */
+    @Transactional
+    public void updateSetting(String key, String value) {
+        if (!CheckoutSettings.isKnownKey(key)) {
+            throw new RuntimeException("Unknown setting: " + key);
+        }
+        // Reject a bad value here rather than at the next rebuild
+        CheckoutSettings.from(Map.of(key, value));
+
+        Settings setting = settingsRepository.findBySettingKey(key).orElseGet(() -> {
+            Settings created = new Settings();
+            created.setSettingKey(key);
+            return created;
+        });
+        setting.setSettingValue(value.trim());
+        settingsRepository.save(setting);
+    }
+}
@@ -0,0 +1,175 @@
+package com.srmiggy.service;
+
+import com.srmiggy.model.DeliverySlot;
+import com.srmiggy.model.Order;
+import com.srmiggy.model.SlotReservation;
+import com.srmiggy.repository.SlotReservationRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory seat counters for delivery slots
+ * Orders reserve a seat in the slot and in the vendor's share of the slot with a
+ * compare-and-set, so checkout never waits on the database for capacity. Per-vendor
+ * counts are written to slot_reservations in the background and reloaded at startup.
+ */
+@Service
+public class SlotCapacityService {
+
+    private static final Logger log = LoggerFactory.getLogger(SlotCapacityService.class);
+
+    @Autowired
+    private SlotReservationRepository slotReservationRepository;
+
+    private final Map<Key, AtomicInteger> counters = new ConcurrentHashMap<>();
+    private final Set<Key> dirty = ConcurrentHashMap.newKeySet();
+
+    // vendorId is null for the slot-wide counter
+    private record Key(LocalDate date, UUID slotId, UUID vendorId) {
+        Key slotTotal() {
+            return new Key(date, slotId, null);
+        }
+    }
+
+    @PostConstruct
+    public void loadToday() {
+        for (SlotReservation reservation : slotReservationRepository.findByServiceDate(LocalDate.now())) {
+            Key key = new Key(reservation.getServiceDate(), reservation.getSlotId(), reservation.getVendorId());
+            counter(key).set(reservation.getReserved());
+            counter(key.slotTotal()).addAndGet(reservation.getReserved());
+        }
+    }
+
+    /**
+     * Reserve one seat for today's run of the slot, or throw if the slot or the
+     * vendor's share of it is full. If called inside a transaction that later
+     * rolls back, the seat is released again.
+     */
+    public void reserve(DeliverySlot slot, UUID vendorId) {
+        Key vendorKey = new Key(LocalDate.now(), slot.getId(), vendorId);
+        Key slotKey = vendorKey.slotTotal();
+
+        if (!tryIncrement(counter(slotKey), slot.getCapacity())) {
+            throw new RuntimeException("Delivery slot " + slot.getDisplayName() + " is full");
+        }
+        if (!tryIncrement(counter(vendorKey), slot.getVendorCapacity())) {
+            counter(slotKey).decrementAndGet();
+            throw new RuntimeException("Vendor is not accepting more orders for slot " + slot.getDisplayName());
+        }
+        dirty.add(vendorKey);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        decrement(vendorKey);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Give back the seat held by an order, e.g. when it is cancelled
+     */
+    public void release(Order order) {
+        decrement(keyOf(order));
+    }
+
+    /**
+     * Take a seat for an order without checking limits, e.g. when a cancelled order is reinstated
+     */
+    public void restore(Order order) {
+        Key key = keyOf(order);
+        counter(key).incrementAndGet();
+        counter(key.slotTotal()).incrementAndGet();
+        dirty.add(key);
+    }
+
+    /**
+     * Seats taken today in a slot across all vendors
+     */
+    public int getReserved(UUID slotId) {
+        AtomicInteger counter = counters.get(new Key(LocalDate.now(), slotId, null));
+        return counter != null ? counter.get() : 0;
+    }
+
+    /**
+     * Write changed per-vendor counters to the database and drop counters for past days
+     */
+    @Scheduled(fixedDelayString = "${slots.reservation-flush-interval:5000}")
+    @PreDestroy
+    public void flush() {
+        for (Key key : List.copyOf(dirty)) {
+            // Removed before the count is read, so a change made during the save marks it dirty again
+            dirty.remove(key);
+            try {
+                SlotReservation reservation = slotReservationRepository
+                        .findByServiceDateAndSlotIdAndVendorId(key.date(), key.slotId(), key.vendorId())
+                        .orElseGet(() -> {
+                            SlotReservation created = new SlotReservation();
+                            created.setServiceDate(key.date());
+                            created.setSlotId(key.slotId());
+                            created.setVendorId(key.vendorId());
+                            return created;
+                        });
+                reservation.setReserved(counter(key).get());
+                slotReservationRepository.save(reservation);
+            } catch (RuntimeException e) {
+                // Kept dirty for the next flush; the other keys are still written
+                dirty.add(key);
+                log.warn("Could not save seat count for slot {} on {}: {}", key.slotId(), key.date(), e.getMessage());
+            }
+        }
+
+        LocalDate today = LocalDate.now();
+        counters.keySet().removeIf(key -> key.date().isBefore(today) && !dirty.contains(key));
+    }
+
+    private Key keyOf(Order order) {
+        LocalDate date = order.getCreatedAt() != null ? order.getCreatedAt().toLocalDate() : LocalDate.now();
+        return new Key(date, order.getDeliverySlot().getId(), order.getVendor().getId());
+    }
+
+    private void decrement(Key vendorKey) {
+        decrementIfPositive(counter(vendorKey));
+        decrementIfPositive(counter(vendorKey.slotTotal()));
+        dirty.add(vendorKey);
+    }
+
+    private AtomicInteger counter(Key key) {
+        return counters.computeIfAbsent(key, k -> new AtomicInteger());
+    }
+
+    private static boolean tryIncrement(AtomicInteger counter, Integer limit) {
+        while (true) {
+            int current = counter.get();
+            if (limit != null && current >= limit) {
+                return false;
+            }
+            if (counter.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private static void decrementIfPositive(AtomicInteger counter) {
+        counter.getAndUpdate(current -> current > 0 ? current - 1 : 0);
+    }
+}
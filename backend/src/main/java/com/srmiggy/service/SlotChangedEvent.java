@@ -0,0 +1,15 @@
+package com.srmiggy.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.UUID;
+
+/**
+ * Published when a delivery slot is saved or deleted
+ */
+@Data
+@AllArgsConstructor
+public class SlotChangedEvent {
+    private UUID slotId;
+}
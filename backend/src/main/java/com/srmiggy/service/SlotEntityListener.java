@@ -0,0 +1,26 @@
+package com.srmiggy.service;
+
+import com.srmiggy.model.DeliverySlot;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener on DeliverySlot that turns every write into a SlotChangedEvent
+ */
+@Component
+public class SlotEntityListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(DeliverySlot slot) {
+        eventPublisher.publishEvent(new SlotChangedEvent(slot.getId()));
+    }
+}
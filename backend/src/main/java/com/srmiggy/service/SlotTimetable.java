@@ -0,0 +1,88 @@
+package com.srmiggy.service;
+
+import com.srmiggy.model.DeliverySlot;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable view of the active delivery slots, sorted by start time
+ * Answers "which slots are open" with a binary search instead of a database query,
+ * and knows the next moment its answer changes so responses can be cached exactly.
+ */
+public final class SlotTimetable {
+
+    private final List<DeliverySlot> slots;
+    private final LocalTime[] startTimes;
+    private final LocalTime orderingStart;
+    private final LocalTime orderingEnd;
+
+    public SlotTimetable(List<DeliverySlot> activeSlots, LocalTime orderingStart, LocalTime orderingEnd) {
+        this.slots = activeSlots.stream()
+                .sorted(Comparator.comparing(DeliverySlot::getStartTime))
+                .toList();
+        this.startTimes = slots.stream().map(DeliverySlot::getStartTime).toArray(LocalTime[]::new);
+        this.orderingStart = orderingStart;
+        this.orderingEnd = orderingEnd;
+    }
+
+    /**
+     * Slots that start after the given time, or none outside ordering hours
+     */
+    public List<DeliverySlot> getOpenSlots(LocalTime time) {
+        if (!isOrderingOpen(time)) {
+            return List.of();
+        }
+        return slots.subList(firstStartingAfter(time), slots.size());
+    }
+
+    /**
+     * Ordering hours are inclusive at both ends
+     */
+    public boolean isOrderingOpen(LocalTime time) {
+        return !time.isBefore(orderingStart) && !time.isAfter(orderingEnd);
+    }
+
+    /**
+     * The first instant after now at which getOpenSlots or isOrderingOpen give a different answer
+     */
+    public LocalDateTime getNextChange(LocalDateTime now) {
+        LocalTime time = now.toLocalTime();
+        if (time.isBefore(orderingStart)) {
+            return now.toLocalDate().atTime(orderingStart);
+        }
+        if (time.isAfter(orderingEnd)) {
+            return now.toLocalDate().plusDays(1).atTime(orderingStart);
+        }
+
+        // Inside ordering hours the answer changes when the next slot starts or ordering closes
+        LocalDateTime closing = now.toLocalDate().atTime(orderingEnd).plusNanos(1);
+        int next = firstStartingAfter(time);
+        if (next < startTimes.length) {
+            LocalDateTime slotStart = now.toLocalDate().atTime(startTimes[next]);
+            return slotStart.isBefore(closing) ? slotStart : closing;
+        }
+        return closing;
+    }
+
+    public List<DeliverySlot> getSlots() {
+        return slots;
+    }
+
+    // Index of the first slot whose start time is strictly after the given time
+    private int firstStartingAfter(LocalTime time) {
+        int low = 0;
+        int high = startTimes.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (startTimes[mid].isAfter(time)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+}
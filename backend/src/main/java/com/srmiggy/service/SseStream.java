@@ -0,0 +1,88 @@
+package com.srmiggy.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * One server-sent event stream whose writes are queued and made in order off the caller's thread
+ * Callers can send while holding their own locks: nothing here blocks on the client.
+ */
+final class SseStream {
+
+    private final SseEmitter emitter;
+    private final SerialExecutor writer;
+    private final Consumer<SseStream> onClose;
+    private final AtomicBoolean ended = new AtomicBoolean();
+    private volatile boolean closed;
+
+    /**
+     * onClose runs once the stream has ended for any reason: completed, timed out or failed
+     */
+    SseStream(long timeoutMillis, Executor executor, Consumer<SseStream> onClose) {
+        this.emitter = new SseEmitter(timeoutMillis);
+        this.writer = new SerialExecutor(executor);
+        this.onClose = onClose;
+        emitter.onCompletion(this::ended);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> ended());
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    void send(SseEmitter.SseEventBuilder event) {
+        writer.execute(() -> write(event));
+    }
+
+    /**
+     * Send an event, then end the stream
+     */
+    void sendLast(SseEmitter.SseEventBuilder event) {
+        writer.execute(() -> {
+            write(event);
+            complete();
+        });
+    }
+
+    /**
+     * Comment line so proxies and load balancers keep an idle stream open
+     */
+    void heartbeat() {
+        writer.execute(() -> write(SseEmitter.event().comment("heartbeat")));
+    }
+
+    /**
+     * End the stream now, without waiting for queued events
+     */
+    void complete() {
+        if (!closed) {
+            closed = true;
+            emitter.complete();
+        }
+    }
+
+    private void write(SseEmitter.SseEventBuilder event) {
+        if (closed) {
+            return;
+        }
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; the container may not report it, so end the stream here too
+            emitter.completeWithError(e);
+            ended();
+        }
+    }
+
+    private void ended() {
+        closed = true;
+        if (ended.compareAndSet(false, true)) {
+            onClose.accept(this);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.srmiggy.service;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener on User and Vendor that reports inserts and deletes for the admin counts
+ */
+@Component
+public class StatsEntityListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void onCreate(Object entity) {
+        eventPublisher.publishEvent(new EntityCountChangedEvent(entity.getClass(), 1));
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        eventPublisher.publishEvent(new EntityCountChangedEvent(entity.getClass(), -1));
+    }
+}
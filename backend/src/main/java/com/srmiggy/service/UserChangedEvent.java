@@ -0,0 +1,13 @@
+package com.srmiggy.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Published when a user row is updated or deleted
+ */
+@Data
+@AllArgsConstructor
+public class UserChangedEvent {
+    private String username;
+}
@@ -0,0 +1,26 @@
+package com.srmiggy.service;
+
+import com.srmiggy.model.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener on User that turns updates and deletes into a UserChangedEvent
+ * In-place wallet and loyalty UPDATEs bypass it, which is fine: they never change
+ * anything authentication depends on.
+ */
+@Component
+public class UserEntityListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(user.getUsername()));
+    }
+}
@@ -0,0 +1,477 @@
+package com.srmiggy.service;
+
+import com.srmiggy.dto.BoardChange;
+import com.srmiggy.dto.BoardOrder;
+import com.srmiggy.dto.BoardSlot;
+import com.srmiggy.dto.KitchenPrep;
+import com.srmiggy.dto.OrderLine;
+import com.srmiggy.dto.PrepDish;
+import com.srmiggy.dto.PrepSlot;
+import com.srmiggy.dto.VendorBoard;
+import com.srmiggy.model.DeliverySlot;
+import com.srmiggy.model.Order;
+import com.srmiggy.model.OrderStatus;
+import com.srmiggy.model.UserRole;
+import com.srmiggy.repository.OrderRepository;
+import com.srmiggy.repository.VendorRepository;
+import com.srmiggy.security.AuthenticatedUser;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Live kitchen boards: each vendor's queue for today, kept in memory and pushed to tablets as changes
+ * A board is loaded with one query the first time it is asked for, then kept current from
+ * committed order status changes; streams get a snapshot once and only changes after that.
+ * Each board also keeps running dish totals per slot, so the prep view never scans order items.
+ * Changes are applied on the application task executor, in order per board, so a committing
+ * request never waits on a board or a slow tablet.
+ */
+@Service
+public class VendorBoardService {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private VendorRepository vendorRepository;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private TaskExecutor taskExecutor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${orders.events.timeout:600000}")
+    private long timeoutMillis;
+
+    // Changes kept per board so a tablet that reconnects with Last-Event-ID gets only what it missed
+    @Value("${vendor-board.replay-size:200}")
+    private int replaySize;
+
+    private final Map<UUID, Board> boards = new ConcurrentHashMap<>();
+    private final AtomicInteger open = new AtomicInteger();
+
+    @PostConstruct
+    public void registerMetrics() {
+        Gauge.builder("srmiggy.vendor.board.streams", open, AtomicInteger::get)
+                .description("Open vendor board event streams")
+                .register(meterRegistry);
+    }
+
+    /**
+     * The vendor whose board a user may see: a vendor user's own, or any vendor for an admin
+     */
+    public UUID resolveVendorId(AuthenticatedUser user, UUID vendorId) {
+        if (user.getRole() == UserRole.ADMIN) {
+            if (vendorId == null || !vendorRepository.existsById(vendorId)) {
+                throw new RuntimeException("Vendor not found");
+            }
+            return vendorId;
+        }
+        if (user.getRole() != UserRole.VENDOR) {
+            throw new RuntimeException("Access denied");
+        }
+        UUID own = vendorRepository.findIdByOwnerId(user.getId())
+                .orElseThrow(() -> new RuntimeException("Vendor not found"));
+        if (vendorId != null && !vendorId.equals(own)) {
+            throw new RuntimeException("Access denied");
+        }
+        return own;
+    }
+
+    public VendorBoard getBoard(UUID vendorId) {
+        Board board = boards.computeIfAbsent(vendorId, Board::new);
+        board.lock.lock();
+        try {
+            ensureCurrent(board);
+            return snapshot(board);
+        } finally {
+            board.lock.unlock();
+        }
+    }
+
+    /**
+     * Dish totals per slot, optionally for one slot, read from the board's running counts
+     */
+    public KitchenPrep getPrep(UUID vendorId, UUID slotId) {
+        Board board = boards.computeIfAbsent(vendorId, Board::new);
+        board.lock.lock();
+        try {
+            ensureCurrent(board);
+            List<PrepSlot> slots = new ArrayList<>();
+            for (Map.Entry<UUID, Map<UUID, DishCount>> entry : board.prep.entrySet()) {
+                if (slotId != null && !slotId.equals(entry.getKey())) {
+                    continue;
+                }
+                List<PrepDish> dishes = new ArrayList<>(entry.getValue().size());
+                for (Map.Entry<UUID, DishCount> dish : entry.getValue().entrySet()) {
+                    DishCount count = dish.getValue();
+                    dishes.add(new PrepDish(dish.getKey(), count.name, count.toCook, count.ready));
+                }
+                dishes.sort(Comparator.comparing(PrepDish::getToCook).reversed().thenComparing(PrepDish::getName));
+                DeliverySlot slot = board.slots.get(entry.getKey());
+                slots.add(new PrepSlot(slot.getId(), slot.getDisplayName(), slot.getStartTime(), slot.getEndTime(), dishes));
+            }
+            slots.sort(Comparator.comparing(PrepSlot::getStartTime));
+            return new KitchenPrep(vendorId, board.date, slots);
+        } finally {
+            board.lock.unlock();
+        }
+    }
+
+    /**
+     * Open a board stream: a "snapshot" event, then "added", "updated" and "removed" events
+     * With the id of the last event a tablet saw, only the changes since are replayed, or a
+     * fresh snapshot if they are no longer kept.
+     */
+    public SseEmitter subscribe(UUID vendorId, String lastEventId) {
+        Board board = boards.computeIfAbsent(vendorId, Board::new);
+        SseStream stream = new SseStream(timeoutMillis, taskExecutor, closed -> remove(board, closed));
+        board.lock.lock();
+        try {
+            ensureCurrent(board);
+            List<BoardChange> missed = changesSince(board, lastEventId);
+            if (missed == null) {
+                stream.send(snapshotEvent(snapshot(board)));
+            } else {
+                for (BoardChange change : missed) {
+                    stream.send(changeEvent(change));
+                }
+            }
+            board.streams.add(stream);
+            open.incrementAndGet();
+        } finally {
+            board.lock.unlock();
+        }
+        return stream.getEmitter();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        // Boards nobody has asked for are loaded from the database when they are
+        Board board = boards.get(event.getVendorId());
+        if (board != null) {
+            board.changes.execute(() -> apply(board, event));
+        }
+    }
+
+    /**
+     * Start each loaded board on the new day; boards nobody is watching are dropped
+     */
+    @Scheduled(cron = "${vendor-board.reset-cron:0 0 0 * * *}")
+    public void startNewDay() {
+        for (Board board : boards.values()) {
+            if (board.streams.isEmpty()) {
+                boards.remove(board.vendorId, board);
+            } else {
+                refresh(board);
+            }
+        }
+    }
+
+    /**
+     * Heartbeat on every stream; a watched board whose last change failed is reloaded here too
+     */
+    @Scheduled(fixedDelayString = "${orders.events.heartbeat-interval:15000}")
+    public void heartbeat() {
+        for (Board board : boards.values()) {
+            if (board.date == null && !board.streams.isEmpty()) {
+                refresh(board);
+            }
+            for (SseStream stream : board.streams) {
+                stream.heartbeat();
+            }
+        }
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void closeAll() {
+        for (Board board : boards.values()) {
+            for (SseStream stream : board.streams) {
+                stream.complete();
+            }
+        }
+    }
+
+    public int getOpenStreams() {
+        return open.get();
+    }
+
+    private void remove(Board board, SseStream stream) {
+        if (board.streams.remove(stream)) {
+            open.decrementAndGet();
+        }
+    }
+
+    /**
+     * Bring a board up to date on its change executor, after the changes already queued
+     */
+    private void refresh(Board board) {
+        board.changes.execute(() -> {
+            board.lock.lock();
+            try {
+                ensureCurrent(board);
+            } finally {
+                board.lock.unlock();
+            }
+        });
+    }
+
+    // Callers hold board.lock; loads when the board is new, stale or from an earlier day
+    private void ensureCurrent(Board board) {
+        LocalDate today = LocalDate.now();
+        if (today.equals(board.date)) {
+            return;
+        }
+        Map<UUID, BoardOrder> orders = new LinkedHashMap<>();
+        Map<UUID, DeliverySlot> slots = new HashMap<>();
+        for (Order order : orderService.getVendorOrders(board.vendorId, today)) {
+            orders.put(order.getId(), toBoardOrder(order));
+            slots.putIfAbsent(order.getDeliverySlot().getId(), order.getDeliverySlot());
+        }
+        board.date = today;
+        board.orders = orders;
+        board.slots = slots;
+        board.prep = new HashMap<>();
+        for (BoardOrder order : orders.values()) {
+            count(board, order, 1);
+        }
+        board.recent.clear();
+        board.version++;
+        if (!board.streams.isEmpty()) {
+            SseEmitter.SseEventBuilder event = snapshotEvent(snapshot(board));
+            for (SseStream stream : board.streams) {
+                stream.send(event);
+            }
+        }
+    }
+
+    private void apply(Board board, OrderStatusChangedEvent event) {
+        board.lock.lock();
+        try {
+            if (board.date == null && board.streams.isEmpty()) {
+                // Not loaded yet; the load will read this change from the database
+                return;
+            }
+            ensureCurrent(board);
+            boolean onBoard = OrderService.KITCHEN_STATUSES.contains(event.getStatus())
+                    && board.date.equals(event.getCreatedAt().toLocalDate());
+            BoardOrder current = board.orders.get(event.getOrderId());
+
+            if (!onBoard) {
+                // A late event from before a reinstatement must not take a live order off the board
+                if (current != null && isNewer(event, current)) {
+                    board.orders.remove(event.getOrderId());
+                    count(board, current, -1);
+                    publish(board, new BoardChange(BoardChange.REMOVED, null, event.getOrderId(),
+                            event.getStatus(), event.getUpdatedAt(), null));
+                }
+            } else if (current == null) {
+                // New to the board, usually just confirmed: read it with its lines, as it is now
+                orderRepository.findQueueOrderById(event.getOrderId())
+                        .filter(order -> OrderService.KITCHEN_STATUSES.contains(order.getStatus()))
+                        .ifPresent(order -> {
+                            BoardOrder added = toBoardOrder(order);
+                            board.orders.put(added.getOrderId(), added);
+                            count(board, added, 1);
+                            board.slots.putIfAbsent(order.getDeliverySlot().getId(), order.getDeliverySlot());
+                            publish(board, new BoardChange(BoardChange.ADDED, null, added.getOrderId(),
+                                    added.getStatus(), added.getUpdatedAt(), added));
+                        });
+            } else if (current.getStatus() != event.getStatus() && isNewer(event, current)) {
+                // Replaced rather than changed in place, since a snapshot may be serializing it
+                BoardOrder updated = new BoardOrder(current.getOrderId(), current.getSlotId(),
+                        current.getSlotDisplayName(), event.getStatus(), current.getCustomerName(),
+                        current.getCustomerPhone(), current.getItems(), current.getCreatedAt(), event.getUpdatedAt());
+                board.orders.put(updated.getOrderId(), updated);
+                count(board, current, -1);
+                count(board, updated, 1);
+                publish(board, new BoardChange(BoardChange.UPDATED, null, updated.getOrderId(),
+                        updated.getStatus(), updated.getUpdatedAt(), null));
+            }
+        } catch (RuntimeException e) {
+            // This change is lost, so reload the board from the database rather than drift until midnight
+            board.date = null;
+            throw e;
+        } finally {
+            board.lock.unlock();
+        }
+    }
+
+    // Without both timestamps the event is taken as the latest word on the order
+    private static boolean isNewer(OrderStatusChangedEvent event, BoardOrder current) {
+        return event.getUpdatedAt() == null || current.getUpdatedAt() == null
+                || event.getUpdatedAt().isAfter(current.getUpdatedAt());
+    }
+
+    /**
+     * Add an order's lines to, or with sign -1 take them from, its slot's dish totals
+     * Callers hold board.lock.
+     */
+    private void count(Board board, BoardOrder order, int sign) {
+        Map<UUID, DishCount> dishes = board.prep.computeIfAbsent(order.getSlotId(), id -> new HashMap<>());
+        boolean ready = order.getStatus() == OrderStatus.READY;
+        for (OrderLine line : order.getItems()) {
+            DishCount dish = dishes.computeIfAbsent(line.getMenuItemId(), id -> new DishCount(line.getName()));
+            if (ready) {
+                dish.ready += sign * line.getQuantity();
+            } else {
+                dish.toCook += sign * line.getQuantity();
+            }
+            if (dish.toCook == 0 && dish.ready == 0) {
+                dishes.remove(line.getMenuItemId());
+            }
+        }
+        if (dishes.isEmpty()) {
+            board.prep.remove(order.getSlotId());
+        }
+    }
+
+    // Callers hold board.lock
+    private void publish(Board board, BoardChange change) {
+        board.version++;
+        change.setVersion(board.eventId());
+        board.recent.addLast(change);
+        while (board.recent.size() > replaySize) {
+            board.recent.removeFirst();
+        }
+        SseEmitter.SseEventBuilder event = changeEvent(change);
+        for (SseStream stream : board.streams) {
+            stream.send(event);
+        }
+    }
+
+    /**
+     * Changes after lastEventId, or null when a snapshot is needed instead
+     */
+    private List<BoardChange> changesSince(Board board, String lastEventId) {
+        Long seen = board.parseEventId(lastEventId);
+        if (seen == null || seen > board.version) {
+            return null;
+        }
+        long oldestKept = board.version - board.recent.size() + 1;
+        if (seen + 1 < oldestKept) {
+            return null;
+        }
+        List<BoardChange> missed = new ArrayList<>();
+        long version = oldestKept;
+        for (BoardChange change : board.recent) {
+            if (version++ > seen) {
+                missed.add(change);
+            }
+        }
+        return missed;
+    }
+
+    private VendorBoard snapshot(Board board) {
+        Map<UUID, List<BoardOrder>> bySlot = new LinkedHashMap<>();
+        for (BoardOrder order : board.orders.values()) {
+            bySlot.computeIfAbsent(order.getSlotId(), id -> new ArrayList<>()).add(order);
+        }
+        List<BoardSlot> slots = new ArrayList<>();
+        for (Map.Entry<UUID, List<BoardOrder>> entry : bySlot.entrySet()) {
+            DeliverySlot slot = board.slots.get(entry.getKey());
+            List<BoardOrder> orders = entry.getValue();
+            orders.sort(Comparator.comparing(BoardOrder::getCreatedAt));
+            slots.add(new BoardSlot(slot.getId(), slot.getDisplayName(), slot.getStartTime(), slot.getEndTime(), orders));
+        }
+        slots.sort(Comparator.comparing(BoardSlot::getStartTime));
+        return new VendorBoard(board.vendorId, board.date, board.eventId(), slots);
+    }
+
+    private BoardOrder toBoardOrder(Order order) {
+        List<OrderLine> items = order.getItems().stream()
+                .map(item -> new OrderLine(item.getMenuItem().getId(), item.getMenuItem().getName(),
+                        item.getQuantity(), item.getPrice(), item.getSubtotal()))
+                .toList();
+        return new BoardOrder(order.getId(), order.getDeliverySlot().getId(), order.getDeliverySlot().getDisplayName(),
+                order.getStatus(), order.getCustomer().getFullName(), order.getCustomerPhone(), items,
+                order.getCreatedAt(), order.getUpdatedAt());
+    }
+
+    private static SseEmitter.SseEventBuilder snapshotEvent(VendorBoard snapshot) {
+        return SseEmitter.event().name("snapshot").id(snapshot.getVersion()).data(snapshot);
+    }
+
+    private static SseEmitter.SseEventBuilder changeEvent(BoardChange change) {
+        return SseEmitter.event().name(change.getType()).id(change.getVersion()).data(change);
+    }
+
+    private final class Board {
+        private final UUID vendorId;
+        private final SerialExecutor changes = new SerialExecutor(taskExecutor);
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Set<SseStream> streams = ConcurrentHashMap.newKeySet();
+
+        // Distinguishes this board's event ids from an earlier instance's after a restart
+        private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+        // Guarded by lock; date is null until first loaded
+        private LocalDate date;
+        private Map<UUID, BoardOrder> orders = new LinkedHashMap<>();
+        private Map<UUID, DeliverySlot> slots = new HashMap<>();
+        // Slot id to menu item id to running totals, kept with every change to orders
+        private Map<UUID, Map<UUID, DishCount>> prep = new HashMap<>();
+        private final Deque<BoardChange> recent = new ArrayDeque<>();
+        private long version;
+
+        Board(UUID vendorId) {
+            this.vendorId = vendorId;
+        }
+
+        String eventId() {
+            return epoch + "-" + version;
+        }
+
+        Long parseEventId(String eventId) {
+            if (eventId == null || !eventId.startsWith(epoch + "-")) {
+                return null;
+            }
+            try {
+                return Long.parseLong(eventId.substring(epoch.length() + 1));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+
+    private static final class DishCount {
+        private final String name;
+        private int toCook;
+        private int ready;
+
+        DishCount(String name) {
+            this.name = name;
+        }
+    }
+}
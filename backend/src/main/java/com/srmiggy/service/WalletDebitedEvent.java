@@ -0,0 +1,16 @@
+package com.srmiggy.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.UUID;
+
+/**
+ * Published when a wallet is debited
+ */
+@Data
+@AllArgsConstructor
+public class WalletDebitedEvent {
+    private UUID userId;
+    private Double amount;
+}
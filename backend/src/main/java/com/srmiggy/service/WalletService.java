@@ -1,16 +1,31 @@
 package com.srmiggy.service;
 
+import com.srmiggy.dto.CursorPage;
+import com.srmiggy.dto.WalletEntry;
 import com.srmiggy.dto.WalletResponse;
-import com.srmiggy.model.User;
-import com.srmiggy.model.WalletTransaction;
+import com.srmiggy.dto.WalletStatement;
+import com.srmiggy.model.WalletSnapshot;
 import com.srmiggy.model.WalletTransactionType;
 import com.srmiggy.repository.UserRepository;
+import com.srmiggy.repository.WalletSnapshotRepository;
 import com.srmiggy.repository.WalletTransactionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 @Service
 public class WalletService {
@@ -21,69 +36,133 @@ public class WalletService {
     @Autowired
     private WalletTransactionRepository walletTransactionRepository;
 
+    @Autowired
+    private WalletSnapshotRepository walletSnapshotRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Transactional
-    public WalletResponse addMoney(String username, Double amount) {
+    public WalletResponse addMoney(UUID userId, Double amount) {
         if (amount <= 0) {
             throw new RuntimeException("Amount must be greater than zero");
         }
 
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        // Update user wallet balance
-        user.setWalletBalance(user.getWalletBalance() + amount);
-        userRepository.save(user);
-
-        // Create transaction record
-        WalletTransaction transaction = new WalletTransaction();
-        transaction.setUser(user);
-        transaction.setAmount(amount);
-        transaction.setType(WalletTransactionType.CREDIT);
-        transaction.setDescription("Money added to wallet");
-        transaction.setBalanceAfter(user.getWalletBalance());
-        walletTransactionRepository.save(transaction);
+        // Credit in place, then record the ledger row against the updated balance
+        if (userRepository.creditWallet(userId, amount) == 0) {
+            throw new RuntimeException("User not found");
+        }
+        recordTransaction(userId, amount, WalletTransactionType.CREDIT, "Money added to wallet");
 
-        return new WalletResponse(user.getWalletBalance(), "Money added successfully");
+        return new WalletResponse(getBalance(userId), "Money added successfully");
     }
 
+    /**
+     * Debit the wallet with a single conditional UPDATE, so concurrent checkouts
+     * can neither overdraw the balance nor overwrite each other's debits
+     */
     @Transactional
-    public WalletResponse deductMoney(String username, Double amount, String description) {
+    public WalletResponse deductMoney(UUID userId, Double amount, String description) {
         if (amount <= 0) {
             throw new RuntimeException("Amount must be greater than zero");
         }
 
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        if (user.getWalletBalance() < amount) {
+        if (userRepository.debitWallet(userId, amount) == 0) {
+            if (!userRepository.existsById(userId)) {
+                throw new RuntimeException("User not found");
+            }
             throw new RuntimeException("Insufficient wallet balance");
         }
+        recordTransaction(userId, amount, WalletTransactionType.DEBIT, description);
+        eventPublisher.publishEvent(new WalletDebitedEvent(userId, amount));
 
-        // Update user wallet balance
-        user.setWalletBalance(user.getWalletBalance() - amount);
-        userRepository.save(user);
+        return new WalletResponse(getBalance(userId), "Payment successful");
+    }
 
-        // Create transaction record
-        WalletTransaction transaction = new WalletTransaction();
-        transaction.setUser(user);
-        transaction.setAmount(amount);
-        transaction.setType(WalletTransactionType.DEBIT);
-        transaction.setDescription(description);
-        transaction.setBalanceAfter(user.getWalletBalance());
-        walletTransactionRepository.save(transaction);
+    public Double getBalance(UUID userId) {
+        return userRepository.findWalletBalanceById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+    }
 
-        return new WalletResponse(user.getWalletBalance(), "Payment successful");
+    private void recordTransaction(UUID userId, Double amount, WalletTransactionType type, String description) {
+        walletTransactionRepository.insertForUser(
+                UUID.randomUUID(), userId, amount, type.name(), description, LocalDateTime.now());
     }
 
-    public Double getBalance(String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        return user.getWalletBalance();
+    /**
+     * One page of the ledger, newest first
+     */
+    public CursorPage<WalletEntry> getTransactions(UUID userId, String cursor, Integer size) {
+        int pageSize = KeysetPaging.pageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        Map<String, Object> after = KeysetPaging.decode(cursor);
+        List<WalletEntry> rows = after == null
+                ? walletTransactionRepository.findEntriesByUserId(userId, limit)
+                : walletTransactionRepository.findEntriesByUserIdAfter(userId,
+                        (LocalDateTime) after.get("createdAt"), (UUID) after.get("id"), limit);
+        return KeysetPaging.toPage(rows, pageSize, WalletEntry::getCreatedAt, WalletEntry::getId);
     }
 
-    public List<WalletTransaction> getTransactions(String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        return walletTransactionRepository.findByUserOrderByCreatedAtDesc(user);
+    /**
+     * Opening and closing balance plus totals for [from, to)
+     * The opening balance starts from the nearest snapshot at or before from, so only
+     * the rows between that snapshot and from are summed, never the whole history.
+     */
+    public WalletStatement getStatement(UUID userId, LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new RuntimeException("Invalid statement period");
+        }
+
+        double opening;
+        Optional<WalletSnapshot> snapshot = walletSnapshotRepository
+                .findFirstByUserIdAndSnapshotAtLessThanEqualOrderBySnapshotAtDesc(userId, from);
+        if (snapshot.isPresent()) {
+            WalletSnapshot s = snapshot.get();
+            opening = s.getBalance() + net(walletTransactionRepository.sumByUserIdBetween(userId, s.getSnapshotAt(), from));
+        } else {
+            // No snapshot yet: work back from the current balance instead
+            LocalDateTime now = LocalDateTime.now();
+            opening = getBalance(userId) - (from.isBefore(now)
+                    ? net(walletTransactionRepository.sumByUserIdBetween(userId, from, now))
+                    : 0.0);
+        }
+
+        WalletTransactionRepository.LedgerTotals period =
+                walletTransactionRepository.sumByUserIdBetween(userId, from, to);
+        return new WalletStatement(from, to, opening, period.getCredits(), period.getDebits(),
+                opening + net(period), period.getCount());
+    }
+
+    /**
+     * Record every user's balance as of midnight, skipping users whose balance has not
+     * moved since their last snapshot. Runs shortly after midnight so wallet transactions
+     * stamped before it have committed, and again at startup to cover missed runs.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${wallet.snapshot-cron:0 5 0 * * *}")
+    @Transactional
+    public void takeSnapshots() {
+        LocalDateTime cutoff = LocalDate.now().atStartOfDay();
+
+        Map<UUID, WalletSnapshot> latest = new HashMap<>();
+        for (WalletSnapshot snapshot : walletSnapshotRepository.findLatestPerUser()) {
+            latest.put(snapshot.getUserId(), snapshot);
+        }
+
+        List<WalletSnapshot> snapshots = new ArrayList<>();
+        for (UserRepository.WalletBalance row : userRepository.findWalletBalancesAt(cutoff)) {
+            WalletSnapshot previous = latest.get(row.getUserId());
+            boolean unchanged = previous == null
+                    ? row.getBalance() == 0.0
+                    : !previous.getSnapshotAt().isBefore(cutoff) || previous.getBalance().equals(row.getBalance());
+            if (!unchanged) {
+                snapshots.add(new WalletSnapshot(null, row.getUserId(), cutoff, row.getBalance()));
+            }
+        }
+        walletSnapshotRepository.saveAll(snapshots);
+    }
+
+    private static double net(WalletTransactionRepository.LedgerTotals totals) {
+        return totals.getCredits() - totals.getDebits();
     }
 }
@@ -306,3 +306,16 @@ VALUES ('667ffcac-8c89-4793-b462-4eaaadfdc8ba', '931cc178-835b-477b-9e9d-dd02d5c
 INSERT INTO menu_items (id, vendor_id, name, description, price, image_url, available, category, is_veg, created_at, updated_at)
 VALUES ('04245d36-67c3-4fcf-aa09-ba8703ce7aa3', '931cc178-835b-477b-9e9d-dd02d5c02a7f', 'Peda (6 pcs)', 'Traditional milk sweet', 70.0, 'https://images.unsplash.com/photo-1631452180519-c014fe946bc7?w=200', true, 'Dessert', true, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
+
+-- Insert Riders
+-- ============================================
+
+-- Two riders for Biryani House, two shared by all vendors
+INSERT INTO riders (id, vendor_id, available, vehicle_number, created_at, updated_at)
+VALUES ('3b1d7c52-6a0e-4f0b-9c1e-5d2a8e7f4a01', 'a66df724-8552-464a-9b29-d9856dcae72f', true, 'TN 22 AB 1001', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO riders (id, vendor_id, available, vehicle_number, created_at, updated_at)
+VALUES ('3b1d7c52-6a0e-4f0b-9c1e-5d2a8e7f4a02', 'a66df724-8552-464a-9b29-d9856dcae72f', true, 'TN 22 AB 1002', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO riders (id, vendor_id, available, vehicle_number, created_at, updated_at)
+VALUES ('3b1d7c52-6a0e-4f0b-9c1e-5d2a8e7f4a03', NULL, true, 'TN 22 AB 1003', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO riders (id, vendor_id, available, vehicle_number, created_at, updated_at)
+VALUES ('3b1d7c52-6a0e-4f0b-9c1e-5d2a8e7f4a04', NULL, true, 'TN 22 AB 1004', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
@@ -31,6 +31,7 @@ CREATE TABLE users (
 CREATE INDEX idx_users_username ON users(username);
 CREATE INDEX idx_users_email ON users(email);
 CREATE INDEX idx_users_role ON users(role);
+CREATE INDEX idx_users_created_at_id ON users(created_at, id);
 
 -- ========================================
 -- 2. VENDORS TABLE
@@ -51,6 +52,7 @@ CREATE TABLE vendors (
 -- Indexes for vendors
 CREATE INDEX idx_vendors_active ON vendors(active);
 CREATE INDEX idx_vendors_user_id ON vendors(user_id);
+CREATE INDEX idx_vendors_created_at_id ON vendors(created_at, id);
 
 -- ========================================
 -- 3. MENU ITEMS TABLE
@@ -84,6 +86,8 @@ CREATE TABLE delivery_slots (
     end_time TIME NOT NULL,
     active BOOLEAN NOT NULL DEFAULT true,
     display_name VARCHAR(255),
+    capacity INTEGER,
+    vendor_capacity INTEGER,
     created_at TIMESTAMP WITH TIME ZONE DEFAULT now(),
     updated_at TIMESTAMP WITH TIME ZONE DEFAULT now()
 );
@@ -91,6 +95,22 @@ CREATE TABLE delivery_slots (
 -- Indexes for delivery slots
 CREATE INDEX idx_deliveryslots_active ON delivery_slots(active);
 
+-- ========================================
+-- 4b. SLOT RESERVATIONS TABLE
+-- ========================================
+-- Per-vendor seat counts for each day's run of a slot (written in the background by the backend)
+CREATE TABLE slot_reservations (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    service_date DATE NOT NULL,
+    slot_id UUID NOT NULL,
+    vendor_id UUID NOT NULL,
+    reserved INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT now(),
+    CONSTRAINT uq_slot_reservation UNIQUE (service_date, slot_id, vendor_id),
+    CONSTRAINT fk_reservation_slot FOREIGN KEY (slot_id) REFERENCES delivery_slots(id) ON DELETE CASCADE,
+    CONSTRAINT fk_reservation_vendor FOREIGN KEY (vendor_id) REFERENCES vendors(id) ON DELETE CASCADE
+);
+
 -- ========================================
 -- 5. RIDERS TABLE
 -- ========================================
@@ -143,6 +163,12 @@ CREATE INDEX idx_orders_vendor_id ON orders(vendor_id);
 CREATE INDEX idx_orders_rider_id ON orders(rider_id);
 CREATE INDEX idx_orders_status ON orders(status);
 CREATE INDEX idx_orders_created_at ON orders(created_at DESC);
+-- Keyset pagination (created_at, id) for admin listings, optionally filtered by status or vendor
+CREATE INDEX idx_orders_created_at_id ON orders(created_at, id);
+CREATE INDEX idx_orders_status_created_at_id ON orders(status, created_at, id);
+CREATE INDEX idx_orders_vendor_created_at_id ON orders(vendor_id, created_at, id);
+-- Keyset pagination of a customer's order history
+CREATE INDEX idx_orders_customer_created_at_id ON orders(customer_id, created_at, id);
 
 -- ========================================
 -- 7. ORDER ITEMS TABLE
@@ -201,6 +227,18 @@ CREATE TABLE wallet_transactions (
 -- Indexes for wallet transactions
 CREATE INDEX idx_wallettxn_user_id ON wallet_transactions(user_id);
 CREATE INDEX idx_wallettxn_created_at ON wallet_transactions(created_at DESC);
+-- Keyset pagination of a user's ledger
+CREATE INDEX idx_wallettxn_user_created_at_id ON wallet_transactions(user_id, created_at, id);
+
+-- Daily balance snapshots so statements never replay the whole ledger
+CREATE TABLE wallet_snapshots (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    user_id UUID NOT NULL,
+    snapshot_at TIMESTAMP NOT NULL,
+    balance DECIMAL(10, 2) NOT NULL,
+    CONSTRAINT uq_wallet_snapshot UNIQUE (user_id, snapshot_at),
+    CONSTRAINT fk_snapshot_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
 
 -- ========================================
 -- 10. SETTINGS TABLE
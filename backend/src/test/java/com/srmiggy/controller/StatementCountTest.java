@@ -0,0 +1,150 @@
+package com.srmiggy.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.srmiggy.config.StatementCount;
+import com.srmiggy.config.StatementCounter;
+import com.srmiggy.model.DeliverySlot;
+import com.srmiggy.repository.DeliverySlotRepository;
+import com.srmiggy.repository.UserRepository;
+import com.srmiggy.security.JwtUtil;
+import com.srmiggy.service.CheckoutSettings;
+import com.srmiggy.service.SettingsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalTime;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the SQL statements the hot endpoints run once warm, so an N+1 or an extra
+ * round trip fails the build; each request is sent once to warm the caches, then counted
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class StatementCountTest {
+
+    // Biryani House and its Chicken Biryani, from data.sql
+    private static final UUID VENDOR_ID = UUID.fromString("a66df724-8552-464a-9b29-d9856dcae72f");
+    private static final UUID MENU_ITEM_ID = UUID.fromString("e2838fc8-8164-40ac-8ee6-890b052948c2");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DeliverySlotRepository deliverySlotRepository;
+
+    @Autowired
+    private SettingsService settingsService;
+
+    private String customerToken;
+    private String adminToken;
+    private UUID slotId;
+
+    @BeforeEach
+    void setUp() {
+        customerToken = tokenFor("customer");
+        adminToken = tokenFor("admin");
+
+        // A slot open all day with no cutoff, so checkout works whenever the build runs
+        settingsService.updateSetting(CheckoutSettings.ORDER_CUTOFF_MINUTES, "0");
+        DeliverySlot slot = new DeliverySlot();
+        slot.setStartTime(LocalTime.MIN);
+        slot.setEndTime(LocalTime.of(23, 59, 59));
+        slot.setDisplayName("All day");
+        slotId = deliverySlotRepository.save(slot).getId();
+    }
+
+    @Test
+    void checkout() throws Exception {
+        String body = "{\"vendorId\":\"" + VENDOR_ID + "\",\"slotId\":\"" + slotId + "\"," +
+                "\"deliveryAddress\":\"Hostel A, Room 101\",\"customerPhone\":\"9876543210\"," +
+                "\"paymentMethod\":\"COD\",\"items\":[{\"menuItemId\":\"" + MENU_ITEM_ID + "\",\"quantity\":2}]}";
+
+        // user, vendor, slot, menu items, order insert, order item insert; seats are counted in memory
+        countStatements(post("/api/orders").contentType(MediaType.APPLICATION_JSON).content(body), customerToken)
+                .assertStatements(6);
+    }
+
+    @Test
+    void orderDetail() throws Exception {
+        UUID orderId = placeOrder();
+
+        // order with vendor and slot, then its lines
+        countStatements(get("/api/orders/" + orderId), customerToken).assertStatements(2);
+    }
+
+    @Test
+    void orderHistory() throws Exception {
+        placeOrder();
+
+        countStatements(get("/api/orders"), customerToken).assertStatements(1);
+    }
+
+    @Test
+    void adminOrderList() throws Exception {
+        placeOrder();
+
+        countStatements(get("/api/admin/orders"), adminToken).assertStatements(1);
+    }
+
+    @Test
+    void vendorBoard() throws Exception {
+        placeOrder();
+
+        // Only the check that the admin's vendorId exists; the board itself is served from memory
+        countStatements(get("/api/vendor/board").param("vendorId", VENDOR_ID.toString()), adminToken)
+                .assertStatements(1);
+    }
+
+    private StatementCount countStatements(MockHttpServletRequestBuilder request, String token) throws Exception {
+        request.header("Authorization", "Bearer " + token);
+        mockMvc.perform(request).andExpect(status().isOk());
+        try (StatementCount count = statementCounter.open()) {
+            mockMvc.perform(request).andExpect(status().isOk());
+            return count;
+        }
+    }
+
+    private UUID placeOrder() throws Exception {
+        String body = "{\"vendorId\":\"" + VENDOR_ID + "\",\"slotId\":\"" + slotId + "\"," +
+                "\"deliveryAddress\":\"Hostel A, Room 101\",\"customerPhone\":\"9876543210\"," +
+                "\"paymentMethod\":\"COD\",\"items\":[{\"menuItemId\":\"" + MENU_ITEM_ID + "\",\"quantity\":1}]}";
+        String response = mockMvc.perform(post("/api/orders")
+                        .header("Authorization", "Bearer " + customerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode order = objectMapper.readTree(response);
+        return UUID.fromString(order.get("id").asText());
+    }
+
+    private String tokenFor(String username) {
+        return jwtUtil.generateToken(userRepository.findByUsername(username).orElseThrow());
+    }
+}
@@ -0,0 +1,29 @@
+package com.srmiggy.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CheckoutSettingsTest {
+
+    @Test
+    void keepsThePreviousValueOnlyForTheKeyThatDoesNotParse() {
+        CheckoutSettings previous = CheckoutSettings.from(Map.of(CheckoutSettings.DELIVERY_FEE, "15"));
+        List<String> errors = new ArrayList<>();
+
+        CheckoutSettings rebuilt = CheckoutSettings.from(Map.of(
+                CheckoutSettings.DELIVERY_FEE, "fifteen",
+                CheckoutSettings.PLATFORM_FEE, "3",
+                CheckoutSettings.ORDER_CUTOFF_MINUTES, "20"), previous, errors);
+
+        assertThat(rebuilt.getDeliveryFee()).isEqualTo(15.0);
+        assertThat(rebuilt.getPlatformFee()).isEqualTo(3.0);
+        assertThat(rebuilt.getOrderCutoffMinutes()).isEqualTo(20);
+        assertThat(rebuilt.getMinimumOrderValue()).isEqualTo(CheckoutSettings.DEFAULTS.getMinimumOrderValue());
+        assertThat(errors).containsExactly("Invalid value for DELIVERY_FEE: fifteen");
+    }
+}
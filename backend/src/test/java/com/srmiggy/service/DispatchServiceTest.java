@@ -0,0 +1,108 @@
+package com.srmiggy.service;
+
+import com.srmiggy.dto.AvailableRider;
+import com.srmiggy.dto.DispatchCandidate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DispatchServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 15, 18, 0);
+    private static final LocalDateTime LONG_AGO = NOW.minusSeconds(120);
+
+    private final UUID vendor = UUID.randomUUID();
+    private final UUID otherVendor = UUID.randomUUID();
+    private final UUID slot = UUID.randomUUID();
+
+    private DispatchService dispatchService;
+
+    @BeforeEach
+    void setUp() {
+        dispatchService = new DispatchService();
+        ReflectionTestUtils.setField(dispatchService, "maxOrdersPerRider", 2);
+        ReflectionTestUtils.setField(dispatchService, "maxWaitSeconds", 60L);
+    }
+
+    @Test
+    void groupsOrdersByVendorSlotAndHostel() {
+        DispatchCandidate a1 = order(vendor, "Hostel A, Room 101", LONG_AGO);
+        DispatchCandidate b1 = order(vendor, "Hostel B, Room 7", LONG_AGO);
+        DispatchCandidate a2 = order(vendor, "  hostel  a , Room 202", LONG_AGO);
+        DispatchCandidate other = order(otherVendor, "Hostel A, Room 5", LONG_AGO);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+
+        Map<UUID, List<UUID>> plan = dispatchService.plan(List.of(a1, b1, a2, other),
+                List.of(shared(first), shared(second), shared(third)), NOW);
+
+        assertThat(plan).containsExactly(
+                Map.entry(first, List.of(a1.getOrderId(), a2.getOrderId())),
+                Map.entry(second, List.of(b1.getOrderId())),
+                Map.entry(third, List.of(other.getOrderId())));
+    }
+
+    @Test
+    void sendsFullBatchesAtOnceAndHoldsPartOnesUntilMaxWait() {
+        DispatchCandidate o1 = order(vendor, "Hostel A", NOW.minusSeconds(10));
+        DispatchCandidate o2 = order(vendor, "Hostel A", NOW.minusSeconds(5));
+        DispatchCandidate o3 = order(vendor, "Hostel A", NOW.minusSeconds(1));
+        List<AvailableRider> riders = List.of(shared(UUID.randomUUID()), shared(UUID.randomUUID()));
+
+        Map<UUID, List<UUID>> plan = dispatchService.plan(List.of(o1, o2, o3), riders, NOW);
+        assertThat(plan.values()).containsExactly(List.of(o1.getOrderId(), o2.getOrderId()));
+
+        Map<UUID, List<UUID>> later = dispatchService.plan(List.of(o3), riders, NOW.plusSeconds(60));
+        assertThat(later.values()).containsExactly(List.of(o3.getOrderId()));
+    }
+
+    @Test
+    void usesVendorRidersBeforeSharedOnes() {
+        DispatchCandidate a = order(vendor, "Hostel A", LONG_AGO);
+        DispatchCandidate b = order(vendor, "Hostel B", LONG_AGO);
+        DispatchCandidate other = order(otherVendor, "Hostel A", LONG_AGO);
+        UUID sharedRider = UUID.randomUUID();
+        UUID ownRider = UUID.randomUUID();
+        UUID otherVendorRider = UUID.randomUUID();
+
+        Map<UUID, List<UUID>> plan = dispatchService.plan(List.of(a, b, other),
+                List.of(shared(sharedRider), own(otherVendorRider, otherVendor), own(ownRider, vendor)), NOW);
+
+        assertThat(plan).containsExactly(
+                Map.entry(ownRider, List.of(a.getOrderId())),
+                Map.entry(sharedRider, List.of(b.getOrderId())),
+                Map.entry(otherVendorRider, List.of(other.getOrderId())));
+    }
+
+    @Test
+    void leavesOrdersWaitingWhenRidersRunOut() {
+        DispatchCandidate a = order(vendor, "Hostel A", LONG_AGO);
+        DispatchCandidate b = order(vendor, "Hostel B", LONG_AGO);
+        UUID rider = UUID.randomUUID();
+
+        Map<UUID, List<UUID>> plan = dispatchService.plan(List.of(a, b), List.of(own(rider, vendor)), NOW);
+
+        assertThat(plan).containsExactly(Map.entry(rider, List.of(a.getOrderId())));
+    }
+
+    private DispatchCandidate order(UUID vendorId, String address, LocalDateTime readyAt) {
+        return new DispatchCandidate(UUID.randomUUID(), vendorId, slot, LocalTime.of(18, 0), address, readyAt);
+    }
+
+    private static AvailableRider shared(UUID riderId) {
+        return new AvailableRider(riderId, null);
+    }
+
+    private static AvailableRider own(UUID riderId, UUID vendorId) {
+        return new AvailableRider(riderId, vendorId);
+    }
+}
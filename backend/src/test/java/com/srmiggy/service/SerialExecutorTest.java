@@ -0,0 +1,37 @@
+package com.srmiggy.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SerialExecutorTest {
+
+    @Test
+    void runsTasksInOrderAndKeepsGoingAfterOneFails() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            SerialExecutor serial = new SerialExecutor(pool);
+            List<Integer> ran = new CopyOnWriteArrayList<>();
+            CountDownLatch done = new CountDownLatch(1);
+
+            serial.execute(() -> ran.add(1));
+            serial.execute(() -> {
+                throw new IllegalStateException("boom");
+            });
+            serial.execute(() -> ran.add(3));
+            serial.execute(done::countDown);
+
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(ran).containsExactly(1, 3);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.srmiggy.service;
+
+import com.srmiggy.dto.CartItemRequest;
+import com.srmiggy.dto.CreateOrderRequest;
+import com.srmiggy.model.DeliverySlot;
+import com.srmiggy.model.Order;
+import com.srmiggy.model.OrderStatus;
+import com.srmiggy.model.SlotReservation;
+import com.srmiggy.model.User;
+import com.srmiggy.model.UserRole;
+import com.srmiggy.repository.DeliverySlotRepository;
+import com.srmiggy.repository.SlotReservationRepository;
+import com.srmiggy.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SlotCapacityServiceTest {
+
+    // Biryani House and its Chicken Biryani, from data.sql
+    private static final UUID VENDOR_ID = UUID.fromString("a66df724-8552-464a-9b29-d9856dcae72f");
+    private static final UUID MENU_ITEM_ID = UUID.fromString("e2838fc8-8164-40ac-8ee6-890b052948c2");
+
+    private static final int CAPACITY = 25;
+    private static final int CHECKOUTS = 200;
+
+    @Autowired
+    private SlotCapacityService slotCapacityService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DeliverySlotRepository deliverySlotRepository;
+
+    @Autowired
+    private SlotReservationRepository slotReservationRepository;
+
+    @Autowired
+    private SettingsService settingsService;
+
+    @Test
+    void parallelCheckoutsFillTheSlotExactlyAndRollbacksGiveSeatsBack() throws Exception {
+        UUID customerId = newUser().getId();
+        UUID slotId = newSlot();
+
+        // Wallet checkouts on an empty wallet reserve a seat, then roll back on the payment
+        List<Order> paid = checkoutInParallel(slotId, customerId, "wallet", "Insufficient wallet balance");
+        assertThat(paid).isEmpty();
+        assertThat(slotCapacityService.getReserved(slotId)).isZero();
+
+        List<Order> placed = checkoutInParallel(slotId, customerId, "COD", "is full");
+        assertThat(placed).hasSize(CAPACITY);
+        assertThat(slotCapacityService.getReserved(slotId)).isEqualTo(CAPACITY);
+
+        // A cancellation frees one seat, and only one of the next racers gets it
+        orderService.updateOrderStatus(placed.get(0).getId(), OrderStatus.CANCELLED);
+        assertThat(checkoutInParallel(slotId, customerId, "COD", "is full")).hasSize(1);
+        assertThat(slotCapacityService.getReserved(slotId)).isEqualTo(CAPACITY);
+
+        assertThatThrownBy(() -> orderService.createOrder(checkout(slotId, "COD"), customerId))
+                .hasMessageContaining("is full");
+
+        slotCapacityService.flush();
+        SlotReservation saved = slotReservationRepository
+                .findByServiceDateAndSlotIdAndVendorId(LocalDate.now(), slotId, VENDOR_ID)
+                .orElseThrow();
+        assertThat(saved.getReserved()).isEqualTo(CAPACITY);
+    }
+
+    private List<Order> checkoutInParallel(UUID slotId, UUID customerId, String paymentMethod, String failure)
+            throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        List<Callable<Order>> checkouts = new ArrayList<>();
+        for (int i = 0; i < CHECKOUTS; i++) {
+            checkouts.add(() -> {
+                try {
+                    return orderService.createOrder(checkout(slotId, paymentMethod), customerId);
+                } catch (RuntimeException e) {
+                    assertThat(e).hasMessageContaining(failure);
+                    return null;
+                }
+            });
+        }
+        List<Order> placed = new ArrayList<>();
+        try {
+            for (Future<Order> result : pool.invokeAll(checkouts)) {
+                if (result.get() != null) {
+                    placed.add(result.get());
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+        return placed;
+    }
+
+    private CreateOrderRequest checkout(UUID slotId, String paymentMethod) {
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setVendorId(VENDOR_ID);
+        request.setSlotId(slotId);
+        request.setDeliveryAddress("Hostel A, Room 101");
+        request.setCustomerPhone("9876543210");
+        request.setPaymentMethod(paymentMethod);
+        request.setItems(List.of(new CartItemRequest(MENU_ITEM_ID, 1)));
+        return request;
+    }
+
+    private UUID newSlot() {
+        // Open all day with no cutoff, so checkout works whenever the build runs
+        settingsService.updateSetting(CheckoutSettings.ORDER_CUTOFF_MINUTES, "0");
+        DeliverySlot slot = new DeliverySlot();
+        slot.setStartTime(LocalTime.MIN);
+        slot.setEndTime(LocalTime.of(23, 59, 59));
+        slot.setDisplayName("All day");
+        slot.setCapacity(CAPACITY);
+        return deliverySlotRepository.save(slot).getId();
+    }
+
+    private User newUser() {
+        String name = "seats-" + UUID.randomUUID();
+        User user = new User();
+        user.setUsername(name);
+        user.setEmail(name + "@example.com");
+        user.setPassword("unused");
+        user.setRole(UserRole.CUSTOMER);
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,113 @@
+package com.srmiggy.service;
+
+import com.srmiggy.dto.BoardOrder;
+import com.srmiggy.dto.BoardSlot;
+import com.srmiggy.dto.CartItemRequest;
+import com.srmiggy.dto.CreateOrderRequest;
+import com.srmiggy.model.DeliverySlot;
+import com.srmiggy.model.Order;
+import com.srmiggy.model.OrderStatus;
+import com.srmiggy.repository.DeliverySlotRepository;
+import com.srmiggy.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class VendorBoardServiceTest {
+
+    // Biryani House and its Chicken Biryani, from data.sql
+    private static final UUID VENDOR_ID = UUID.fromString("a66df724-8552-464a-9b29-d9856dcae72f");
+    private static final UUID MENU_ITEM_ID = UUID.fromString("e2838fc8-8164-40ac-8ee6-890b052948c2");
+
+    @Autowired
+    private VendorBoardService vendorBoardService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DeliverySlotRepository deliverySlotRepository;
+
+    @Autowired
+    private SettingsService settingsService;
+
+    @Test
+    void staleRemovalDoesNotTakeAReinstatedOrderOffTheBoard() throws Exception {
+        Order order = placeOrder();
+        vendorBoardService.getBoard(VENDOR_ID);
+        orderService.updateOrderStatus(order.getId(), OrderStatus.CONFIRMED);
+        BoardOrder confirmed = awaitOrder(order.getId(), o -> o != null);
+        LocalDateTime at = confirmed.getUpdatedAt();
+
+        // Cancelled, then reinstated; the cancel's event is delivered after the reinstatement's
+        vendorBoardService.onOrderStatusChanged(event(order, OrderStatus.CANCELLED, OrderStatus.PREPARING, at.plusSeconds(2)));
+        vendorBoardService.onOrderStatusChanged(event(order, OrderStatus.PREPARING, OrderStatus.CANCELLED, at.plusSeconds(1)));
+        // Applied after both, in order, so once it shows the stale removal has been handled
+        vendorBoardService.onOrderStatusChanged(event(order, OrderStatus.PREPARING, OrderStatus.READY, at.plusSeconds(3)));
+
+        BoardOrder latest = awaitOrder(order.getId(), o -> o != null && o.getStatus() == OrderStatus.READY);
+        assertThat(latest.getUpdatedAt()).isEqualTo(at.plusSeconds(3));
+    }
+
+    private Order placeOrder() {
+        // A slot open all day with no cutoff, so the order can be placed whenever the build runs
+        settingsService.updateSetting(CheckoutSettings.ORDER_CUTOFF_MINUTES, "0");
+        DeliverySlot slot = new DeliverySlot();
+        slot.setStartTime(LocalTime.MIN);
+        slot.setEndTime(LocalTime.of(23, 59, 59));
+        slot.setDisplayName("All day");
+        UUID slotId = deliverySlotRepository.save(slot).getId();
+
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setVendorId(VENDOR_ID);
+        request.setSlotId(slotId);
+        request.setDeliveryAddress("Hostel A, Room 101");
+        request.setCustomerPhone("9876543210");
+        request.setPaymentMethod("COD");
+        request.setItems(List.of(new CartItemRequest(MENU_ITEM_ID, 1)));
+        return orderService.createOrder(request, userRepository.findByUsername("customer").orElseThrow().getId());
+    }
+
+    private OrderStatusChangedEvent event(Order order, OrderStatus previous, OrderStatus status, LocalDateTime updatedAt) {
+        return new OrderStatusChangedEvent(order.getId(), order.getCustomer().getId(), VENDOR_ID,
+                order.getDeliverySlot().getId(), previous, status, order.getTotal(), order.getCreatedAt(), updatedAt);
+    }
+
+    // Board changes are applied on the task executor, so wait for the one expected
+    private BoardOrder awaitOrder(UUID orderId, Predicate<BoardOrder> expected) throws InterruptedException {
+        BoardOrder found = null;
+        for (int attempt = 0; attempt < 50; attempt++) {
+            found = findOnBoard(orderId);
+            if (expected.test(found)) {
+                return found;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("Board never showed the expected state of order " + orderId + "; last seen: " + found);
+    }
+
+    private BoardOrder findOnBoard(UUID orderId) {
+        for (BoardSlot slot : vendorBoardService.getBoard(VENDOR_ID).getSlots()) {
+            for (BoardOrder order : slot.getOrders()) {
+                if (order.getOrderId().equals(orderId)) {
+                    return order;
+                }
+            }
+        }
+        return null;
+    }
+}
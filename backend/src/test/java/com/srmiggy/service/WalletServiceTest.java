@@ -0,0 +1,99 @@
+package com.srmiggy.service;
+
+import com.srmiggy.dto.WalletEntry;
+import com.srmiggy.model.User;
+import com.srmiggy.model.UserRole;
+import com.srmiggy.repository.UserRepository;
+import com.srmiggy.repository.WalletTransactionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class WalletServiceTest {
+
+    private static final int DEBITS = 2000;
+    private static final double STARTING_BALANCE = 1000.0;
+    private static final double DEBIT = 3.0;
+
+    @Autowired
+    private WalletService walletService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WalletTransactionRepository walletTransactionRepository;
+
+    @Test
+    void parallelDebitsNeverOverdrawAndMatchTheLedger() throws Exception {
+        UUID userId = newUser().getId();
+        LocalDateTime start = LocalDateTime.now().minusMinutes(1);
+        walletService.addMoney(userId, STARTING_BALANCE);
+
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        List<Callable<Boolean>> debits = new ArrayList<>();
+        for (int i = 0; i < DEBITS; i++) {
+            debits.add(() -> {
+                try {
+                    walletService.deductMoney(userId, DEBIT, "Concurrent debit");
+                    return true;
+                } catch (RuntimeException e) {
+                    assertThat(e).hasMessage("Insufficient wallet balance");
+                    return false;
+                }
+            });
+        }
+        int succeeded = 0;
+        try {
+            for (Future<Boolean> result : pool.invokeAll(debits)) {
+                if (result.get()) {
+                    succeeded++;
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        double balance = walletService.getBalance(userId);
+        int affordable = (int) (STARTING_BALANCE / DEBIT);
+        assertThat(succeeded).isEqualTo(affordable);
+        assertThat(balance).isEqualTo(STARTING_BALANCE - succeeded * DEBIT);
+
+        WalletTransactionRepository.LedgerTotals ledger =
+                walletTransactionRepository.sumByUserIdBetween(userId, start, LocalDateTime.now().plusMinutes(1));
+        assertThat(ledger.getCount()).isEqualTo(succeeded + 1L);
+        assertThat(ledger.getCredits() - ledger.getDebits()).isEqualTo(balance);
+
+        List<WalletEntry> entries = walletTransactionRepository.findEntriesByUserId(userId, Limit.of(DEBITS + 1));
+        assertThat(entries).allSatisfy(entry -> assertThat(entry.getBalanceAfter()).isNotNegative());
+
+        assertThatThrownBy(() -> walletService.deductMoney(userId, balance + DEBIT, "Overdraw"))
+                .hasMessage("Insufficient wallet balance");
+    }
+
+    private User newUser() {
+        String name = "wallet-" + UUID.randomUUID();
+        User user = new User();
+        user.setUsername(name);
+        user.setEmail(name + "@example.com");
+        user.setPassword("unused");
+        user.setRole(UserRole.CUSTOMER);
+        return userRepository.save(user);
+    }
+}
@@ -20,8 +20,8 @@ const AdminDashboard = () => {
         adminAPI.getAllVendors(),
       ]);
       setStats(statsRes.data);
-      setOrders(ordersRes.data);
-      setVendors(vendorsRes.data);
+      setOrders(ordersRes.data.items);
+      setVendors(vendorsRes.data.items);
     } catch (error) {
       console.error('Error loading admin data:', error);
     } finally {
@@ -131,9 +131,9 @@ const AdminDashboard = () => {
                     <tr key={order.id} className="hover:bg-gray-50 dark:hover:bg-gray-700/50 transition-colors duration-200">
                       <td className="px-6 py-4 whitespace-nowrap text-gray-900 dark:text-white font-semibold">#{order.id}</td>
                       <td className="px-6 py-4 whitespace-nowrap text-gray-700 dark:text-gray-300">
-                        {order.customer.fullName}
+                        {order.customerName}
                       </td>
-                      <td className="px-6 py-4 whitespace-nowrap text-gray-700 dark:text-gray-300">{order.vendor.name}</td>
+                      <td className="px-6 py-4 whitespace-nowrap text-gray-700 dark:text-gray-300">{order.vendorName}</td>
                       <td className="px-6 py-4 whitespace-nowrap text-gray-900 dark:text-white font-bold">
                         ₹{order.total.toFixed(2)}
                       </td>
@@ -3,7 +3,12 @@ import { orderAPI } from '../utils/api';
 
 const Orders = () => {
   const [orders, setOrders] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
   const [loading, setLoading] = useState(true);
+  const [loadingMore, setLoadingMore] = useState(false);
+  // Full orders fetched on demand, keyed by id; the list itself only has the summary
+  const [details, setDetails] = useState({});
+  const [expanded, setExpanded] = useState({});
 
   useEffect(() => {
     loadOrders();
@@ -12,7 +17,8 @@ const Orders = () => {
   const loadOrders = async () => {
     try {
       const response = await orderAPI.getMyOrders();
-      setOrders(response.data);
+      setOrders(response.data.items);
+      setNextCursor(response.data.nextCursor);
     } catch (error) {
       console.error('Error loading orders:', error);
     } finally {
@@ -20,6 +26,34 @@ const Orders = () => {
     }
   };
 
+  const loadMoreOrders = async () => {
+    setLoadingMore(true);
+    try {
+      const response = await orderAPI.getMyOrders(nextCursor);
+      setOrders((current) => [...current, ...response.data.items]);
+      setNextCursor(response.data.nextCursor);
+    } catch (error) {
+      console.error('Error loading orders:', error);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
+  const toggleDetails = async (orderId) => {
+    const open = !expanded[orderId];
+    setExpanded((current) => ({ ...current, [orderId]: open }));
+    if (!open || details[orderId]) {
+      return;
+    }
+    try {
+      const response = await orderAPI.getById(orderId);
+      setDetails((current) => ({ ...current, [orderId]: response.data }));
+    } catch (error) {
+      console.error('Error loading order details:', error);
+      setExpanded((current) => ({ ...current, [orderId]: false }));
+    }
+  };
+
   const getStatusColor = (status) => {
     const colors = {
       PENDING: 'bg-yellow-100 dark:bg-yellow-900/30 text-yellow-800 dark:text-yellow-400 border border-yellow-200 dark:border-yellow-700',
@@ -73,7 +107,7 @@ const Orders = () => {
                   <h2 className="text-xl font-semibold text-gray-900 dark:text-white">
                     Order #{order.id}
                   </h2>
-                  <p className="text-gray-600 dark:text-gray-400 font-medium">{order.vendor.name}</p>
+                  <p className="text-gray-600 dark:text-gray-400 font-medium">{order.vendorName}</p>
                   <p className="text-sm text-gray-500 dark:text-gray-500">
                     {new Date(order.createdAt).toLocaleString()}
                   </p>
@@ -87,39 +121,63 @@ const Orders = () => {
                 </span>
               </div>
 
-              <div className="border-t dark:border-gray-700 pt-4">
-                <h3 className="font-semibold mb-2 text-gray-900 dark:text-white">Items:</h3>
-                <ul className="space-y-2 mb-4">
-                  {order.items.map((item) => (
-                    <li key={item.id} className="flex justify-between text-gray-700 dark:text-gray-300 bg-gray-50 dark:bg-gray-700/50 p-2 rounded-lg">
-                      <span className="font-medium">
-                        {item.menuItem.name} x {item.quantity}
-                      </span>
-                      <span className="font-bold">₹{item.subtotal.toFixed(2)}</span>
-                    </li>
-                  ))}
-                </ul>
+              {expanded[order.id] && (
+                <div className="border-t dark:border-gray-700 pt-4 mb-4">
+                  {details[order.id] ? (
+                    <>
+                      <h3 className="font-semibold mb-2 text-gray-900 dark:text-white">Items:</h3>
+                      <ul className="space-y-2 mb-4">
+                        {details[order.id].items.map((item, index) => (
+                          <li key={`${index}-${item.menuItemId}`} className="flex justify-between text-gray-700 dark:text-gray-300 bg-gray-50 dark:bg-gray-700/50 p-2 rounded-lg">
+                            <span className="font-medium">
+                              {item.name} x {item.quantity}
+                            </span>
+                            <span className="font-bold">₹{item.subtotal.toFixed(2)}</span>
+                          </li>
+                        ))}
+                      </ul>
+                      <p className="text-sm text-gray-600 dark:text-gray-400">
+                        <span className="font-medium">Delivery Slot:</span> {details[order.id].slotDisplayName}
+                      </p>
+                      <p className="text-sm text-gray-600 dark:text-gray-400">
+                        <span className="font-medium">Address:</span> {details[order.id].deliveryAddress}
+                      </p>
+                    </>
+                  ) : (
+                    <p className="text-sm text-gray-500 dark:text-gray-400 animate-pulse-soft">Loading details...</p>
+                  )}
+                </div>
+              )}
 
-                <div className="flex justify-between items-center border-t dark:border-gray-700 pt-4 bg-gray-50 dark:bg-gray-700/50 p-4 rounded-lg">
-                  <div>
-                    <p className="text-sm text-gray-600 dark:text-gray-400">
-                      <span className="font-medium">Delivery Slot:</span> {order.deliverySlot.displayName}
-                    </p>
-                    <p className="text-sm text-gray-600 dark:text-gray-400">
-                      <span className="font-medium">Address:</span> {order.deliveryAddress}
-                    </p>
-                  </div>
-                  <div className="text-right">
-                    <p className="text-sm text-gray-600 dark:text-gray-400 font-medium">Total</p>
-                    <p className="text-2xl font-bold bg-gradient-to-r from-primary-600 to-orange-600 dark:from-orange-400 dark:to-orange-500 bg-clip-text text-transparent">
-                      ₹{order.total.toFixed(2)}
-                    </p>
-                  </div>
+              <div className="flex justify-between items-center border-t dark:border-gray-700 pt-4 bg-gray-50 dark:bg-gray-700/50 p-4 rounded-lg">
+                <button
+                  onClick={() => toggleDetails(order.id)}
+                  className="text-sm font-semibold text-primary-600 dark:text-orange-400 hover:underline"
+                >
+                  {expanded[order.id] ? 'Hide details' : 'View details'}
+                </button>
+                <div className="text-right">
+                  <p className="text-sm text-gray-600 dark:text-gray-400 font-medium">Total</p>
+                  <p className="text-2xl font-bold bg-gradient-to-r from-primary-600 to-orange-600 dark:from-orange-400 dark:to-orange-500 bg-clip-text text-transparent">
+                    ₹{order.total.toFixed(2)}
+                  </p>
                 </div>
               </div>
             </div>
           ))}
         </div>
+
+        {nextCursor && (
+          <div className="flex justify-center mt-8">
+            <button
+              onClick={loadMoreOrders}
+              disabled={loadingMore}
+              className="px-6 py-3 rounded-xl font-semibold text-white bg-gradient-to-r from-primary-500 to-orange-500 hover:from-primary-600 hover:to-orange-600 disabled:opacity-50 transition-all duration-300"
+            >
+              {loadingMore ? 'Loading...' : 'Load more orders'}
+            </button>
+          </div>
+        )}
       </div>
     </div>
   );
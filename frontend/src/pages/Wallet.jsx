@@ -4,6 +4,8 @@ import { walletAPI } from '../utils/api';
 const Wallet = () => {
   const [balance, setBalance] = useState(0);
   const [transactions, setTransactions] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [amount, setAmount] = useState('');
   const [loading, setLoading] = useState(false);
   const [error, setError] = useState('');
@@ -20,13 +22,27 @@ const Wallet = () => {
         walletAPI.getTransactions(),
       ]);
       setBalance(balanceResponse.data);
-      setTransactions(transactionsResponse.data);
+      setTransactions(transactionsResponse.data.items);
+      setNextCursor(transactionsResponse.data.nextCursor);
     } catch (err) {
       console.error('Error loading wallet data:', err);
       setError('Failed to load wallet data');
     }
   };
 
+  const loadMoreTransactions = async () => {
+    setLoadingMore(true);
+    try {
+      const response = await walletAPI.getTransactions(nextCursor);
+      setTransactions((current) => [...current, ...response.data.items]);
+      setNextCursor(response.data.nextCursor);
+    } catch (err) {
+      console.error('Error loading transactions:', err);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const handleAddMoney = async (e) => {
     e.preventDefault();
     setError('');
@@ -188,6 +204,18 @@ const Wallet = () => {
               ))}
             </div>
           )}
+
+          {nextCursor && (
+            <div className="flex justify-center mt-6">
+              <button
+                onClick={loadMoreTransactions}
+                disabled={loadingMore}
+                className="px-6 py-3 rounded-xl font-semibold text-white bg-gradient-to-r from-primary-500 to-orange-500 hover:from-primary-600 hover:to-orange-600 disabled:opacity-50 transition-all duration-300"
+              >
+                {loadingMore ? 'Loading...' : 'Load more transactions'}
+              </button>
+            </div>
+          )}
         </div>
       </div>
     </div>
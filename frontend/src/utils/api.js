@@ -39,7 +39,7 @@ export const slotAPI = {
 
 export const orderAPI = {
   create: (orderData) => api.post('/orders', orderData),
-  getMyOrders: () => api.get('/orders'),
+  getMyOrders: (cursor) => api.get('/orders', { params: { cursor } }),
   getById: (id) => api.get(`/orders/${id}`),
 };
 
@@ -62,7 +62,7 @@ export const adminAPI = {
 export const walletAPI = {
   addMoney: (amount) => api.post('/wallet/add-money', { amount }),
   getBalance: () => api.get('/wallet/balance'),
-  getTransactions: () => api.get('/wallet/transactions'),
+  getTransactions: (cursor) => api.get('/wallet/transactions', { params: { cursor } }),
   getLoyaltyPoints: () => api.get('/wallet/loyalty-points'),
   calculateLoyaltyPoints: (orderTotal) => api.get(`/wallet/calculate-loyalty-points?orderTotal=${orderTotal}`),
 };